@@ -0,0 +1,60 @@
+package io.github.rebeca.spaceshooter.benchmarks;
+
+import io.github.rebeca.spaceshooter.EntityStore;
+import io.github.rebeca.spaceshooter.GameWorld;
+import io.github.rebeca.spaceshooter.UniformGrid;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Busqueda de pares laser-enemigo: rejilla uniforme frente a la doble vuelta
+ * de fuerza bruta. Ambos metodos cuentan los mismos pares.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class BroadPhaseBenchmark {
+    @Param({"10", "1000", "10000", "100000"})
+    public int entityCount;
+
+    private EntityStore lasers;
+    private EntityStore enemies;
+    private final UniformGrid grid = new UniformGrid(GameWorld.WIDTH, GameWorld.HEIGHT, 64);
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        GameWorld world = new WorldFixture(entityCount).create(0);
+        lasers = world.lasers;
+        enemies = world.enemies;
+    }
+
+    @Benchmark
+    public int grid() {
+        grid.build(enemies);
+        int[] candidates = grid.candidates();
+        int pairs = 0;
+        for (int i = 0; i < lasers.size; i++) {
+            int count = grid.query(lasers.x[i], lasers.y[i], lasers.width[i], lasers.height[i]);
+            for (int k = 0; k < count; k++) {
+                if (lasers.overlaps(i, enemies, candidates[k])) pairs++;
+            }
+        }
+        return pairs;
+    }
+
+    @Benchmark
+    public int bruteForce() {
+        // A partir de 10k entidades la fuerza bruta tarda segundos por operacion
+        if (entityCount > 10000) return -1;
+        int pairs = 0;
+        for (int i = 0; i < lasers.size; i++) {
+            for (int j = 0; j < enemies.size; j++) {
+                if (lasers.overlaps(i, enemies, j)) pairs++;
+            }
+        }
+        return pairs;
+    }
+}
@@ -0,0 +1,65 @@
+package io.github.rebeca.spaceshooter.benchmarks;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.utils.GdxNativesLoader;
+import io.github.rebeca.spaceshooter.CollisionMask;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coste de la prueba precisa frente a la de cajas, con un jugador de 64x64 y un
+ * meteoro de 48x48 (dos circulos). Todos los pares se solapan como cajas, asi que
+ * la mascara se evalua siempre; en el juego solo se llega a ella en esos casos.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CollisionMaskBenchmark {
+    private static final int PAIRS = 1024;
+
+    private CollisionMask player;
+    private CollisionMask meteor;
+    private final float[] offsetX = new float[PAIRS];
+    private final float[] offsetY = new float[PAIRS];
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        GdxNativesLoader.load();
+        player = disc(64);
+        meteor = disc(48);
+        Random random = new Random(1);
+        for (int i = 0; i < PAIRS; i++) {
+            offsetX[i] = random.nextFloat() * 110 - 47;
+            offsetY[i] = random.nextFloat() * 110 - 47;
+        }
+    }
+
+    private static CollisionMask disc(int size) {
+        Pixmap pixmap = new Pixmap(size, size, Pixmap.Format.RGBA8888);
+        pixmap.setColor(Color.WHITE);
+        pixmap.fillCircle(size / 2, size / 2, size / 2);
+        CollisionMask mask = CollisionMask.fromPixmap(pixmap, 0, 0, size, size, size, size);
+        pixmap.dispose();
+        return mask;
+    }
+
+    @Benchmark
+    public boolean boxes() {
+        int i = next++ & (PAIRS - 1);
+        float x = offsetX[i], y = offsetY[i];
+        return x < 64 && x + 48 > 0 && y < 64 && y + 48 > 0;
+    }
+
+    @Benchmark
+    public boolean boxesThenMasks() {
+        int i = next++ & (PAIRS - 1);
+        float x = offsetX[i], y = offsetY[i];
+        return x < 64 && x + 48 > 0 && y < 64 && y + 48 > 0 && CollisionMask.overlaps(player, 0, 0, meteor, x, y);
+    }
+}
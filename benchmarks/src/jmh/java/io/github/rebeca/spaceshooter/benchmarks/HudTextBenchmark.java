@@ -0,0 +1,27 @@
+package io.github.rebeca.spaceshooter.benchmarks;
+
+import io.github.rebeca.spaceshooter.HudText;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/** Formato de las tres lineas del HUD que se escriben en cada frame. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class HudTextBenchmark {
+    private final StringBuilder hudText = new StringBuilder(32);
+    private float timeElapsed = 12.5f;
+    private int enemiesDefeated = 7;
+    private int obstaclesPassed = 3;
+
+    @Benchmark
+    public void formatHud(Blackhole blackhole) {
+        blackhole.consume(HudText.time(hudText, timeElapsed).length());
+        blackhole.consume(HudText.enemiesDefeated(hudText, enemiesDefeated).length());
+        blackhole.consume(HudText.obstaclesAvoided(hudText, obstaclesPassed).length());
+    }
+}
@@ -0,0 +1,53 @@
+package io.github.rebeca.spaceshooter.benchmarks;
+
+import io.github.rebeca.spaceshooter.GameWorld;
+import io.github.rebeca.spaceshooter.InputState;
+import io.github.rebeca.spaceshooter.bots.GameplayMasks;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tick de un mundo vacio con entrada de teclado o con todos los toques
+ * activos, para aislar el coste de procesar la entrada.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class InputBenchmark {
+    private static final float STEP = 1 / 60f;
+
+    private GameWorld world;
+    private final InputState keyboard = new InputState();
+    private final InputState touch = new InputState();
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        world = new GameWorld(0);
+        world.setEndless(true);
+        world.setMasks(GameplayMasks.get());
+
+        keyboard.clear();
+        keyboard.left = true;
+        keyboard.fire = true;
+
+        touch.clear();
+        for (int i = 0; i < InputState.MAX_POINTERS; i++) {
+            touch.addTouch(100 + i * 120, 200);
+        }
+    }
+
+    @Benchmark
+    public float keyboard() {
+        world.step(keyboard, STEP);
+        return world.player.x;
+    }
+
+    @Benchmark
+    public float touch() {
+        world.step(touch, STEP);
+        return world.player.x;
+    }
+}
@@ -0,0 +1,75 @@
+package io.github.rebeca.spaceshooter.benchmarks;
+
+import io.github.rebeca.spaceshooter.GameWorld;
+import io.github.rebeca.spaceshooter.InputRecorder;
+import io.github.rebeca.spaceshooter.InputReplay;
+import io.github.rebeca.spaceshooter.InputState;
+import io.github.rebeca.spaceshooter.ReplayRunner;
+import io.github.rebeca.spaceshooter.bots.GameplayMasks;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Repite una grabacion completa solo con la simulacion. Con {@code recording}
+ * vacio se usa una grabacion sintetica de los tres niveles; con una ruta se usa
+ * un fichero grabado con {@code --record}, para medir siempre la misma partida.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ReplayBenchmark {
+    private static final float STEP = 1 / 60f;
+    private static final int MAX_TICKS = 60 * 60 * 3;    // Tres minutos por nivel como maximo
+
+    @Param({""})
+    public String recording;
+
+    private InputReplay replay;
+    private final ReplayRunner runner = new ReplayRunner();
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        byte[] data = recording.isEmpty() ? synthetic() : Files.readAllBytes(Path.of(recording));
+        replay = new InputReplay(data);
+        runner.setMasks(GameplayMasks.get());
+        ReplayRunner.Result result = runner.run(replay);
+        if (result.mismatches > 0) throw new IllegalStateException("Recording is not deterministic: " + result);
+    }
+
+    @Benchmark
+    public long replay() {
+        return runner.run(replay).ticks;
+    }
+
+    // Partidas con entrada pseudoaleatoria fija: moverse, disparar y tocar de vez en cuando
+    private static byte[] synthetic() {
+        InputRecorder.MemorySink sink = new InputRecorder.MemorySink();
+        InputRecorder recorder = new InputRecorder(sink, STEP);
+        Random random = new Random(7);
+        InputState input = new InputState();
+        for (int level = 0; level < GameWorld.LEVELS.length; level++) {
+            GameWorld world = new GameWorld(level, 1000 + level);
+            world.setMasks(GameplayMasks.get());
+            recorder.beginSession(world);
+            for (int tick = 0; tick < MAX_TICKS && world.getOutcome() == GameWorld.Outcome.RUNNING; tick++) {
+                input.clear();
+                input.left = random.nextInt(3) == 0;
+                input.right = random.nextInt(3) == 0;
+                input.fire = random.nextBoolean();
+                if (random.nextInt(50) == 0) input.addTouch(random.nextFloat() * GameWorld.WIDTH, 20);
+                recorder.record(input);
+                world.step(input, STEP);
+            }
+            recorder.endSession(world);
+        }
+        recorder.close();
+        return sink.toArray();
+    }
+}
@@ -0,0 +1,61 @@
+package io.github.rebeca.spaceshooter.benchmarks;
+
+import io.github.rebeca.spaceshooter.EntityStore;
+import io.github.rebeca.spaceshooter.GameWorld;
+import io.github.rebeca.spaceshooter.bots.GameplayMasks;
+
+import java.util.Random;
+
+/**
+ * Llena un {@link GameWorld} con una cantidad fija de entidades y la mantiene
+ * constante: lo que sale de pantalla o se destruye se repone por el borde, como
+ * en una oleada continua. Las colisiones usan las mascaras de pixeles, como en
+ * la partida.
+ */
+final class WorldFixture {
+    private final Random random = new Random(42);
+    private final int lasers;
+    private final int enemies;
+    private final int obstacles;
+
+    // Reparte el total: la mitad lasers, un tercio enemigos y el resto obstaculos
+    WorldFixture(int entityCount) {
+        this.lasers = entityCount / 2;
+        this.enemies = entityCount / 3;
+        this.obstacles = entityCount - lasers - enemies;
+    }
+
+    GameWorld create(int levelIndex) {
+        GameWorld world = new GameWorld(levelIndex);
+        world.setEndless(true);
+        world.setMasks(GameplayMasks.get());
+        fill(world);
+        return world;
+    }
+
+    // Posiciones iniciales repartidas por todo el campo
+    void fill(GameWorld world) {
+        float enemySpeed = world.getLevel().enemySpeed;
+        float obstacleSpeed = world.getLevel().obstacleSpeed;
+        for (int i = 0; i < lasers; i++) add(world.lasers, 10, 25, 500, randomY());
+        for (int i = 0; i < enemies; i++) add(world.enemies, 64, 64, -enemySpeed, randomY());
+        for (int i = 0; i < obstacles; i++) add(world.obstacles, 48, 48, -obstacleSpeed, randomY());
+    }
+
+    // Repone lo que se perdio en el ultimo tick
+    void topUp(GameWorld world) {
+        float enemySpeed = world.getLevel().enemySpeed;
+        float obstacleSpeed = world.getLevel().obstacleSpeed;
+        while (world.lasers.size < lasers) add(world.lasers, 10, 25, 500, 0);
+        while (world.enemies.size < enemies) add(world.enemies, 64, 64, -enemySpeed, GameWorld.HEIGHT);
+        while (world.obstacles.size < obstacles) add(world.obstacles, 48, 48, -obstacleSpeed, GameWorld.HEIGHT);
+    }
+
+    private void add(EntityStore store, float width, float height, float velocity, float y) {
+        store.add(random.nextFloat() * (GameWorld.WIDTH - width), y, width, height, velocity);
+    }
+
+    private float randomY() {
+        return random.nextFloat() * GameWorld.HEIGHT;
+    }
+}
@@ -0,0 +1,45 @@
+package io.github.rebeca.spaceshooter.benchmarks;
+
+import io.github.rebeca.spaceshooter.GameWorld;
+import io.github.rebeca.spaceshooter.InputState;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coste de un tick completo de simulacion (entrada, movimiento, aparicion,
+ * colisiones y comprobacion de victoria) segun la cantidad de entidades vivas.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class WorldTickBenchmark {
+    private static final float STEP = 1 / 60f;
+
+    @Param({"10", "1000", "10000", "100000"})
+    public int entityCount;
+
+    @Param({"0", "2"})
+    public int levelIndex;
+
+    private WorldFixture fixture;
+    private GameWorld world;
+    private final InputState input = new InputState();
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        fixture = new WorldFixture(entityCount);
+        world = fixture.create(levelIndex);
+        input.clear();
+        input.fire = true;
+    }
+
+    @Benchmark
+    public int tick() {
+        world.step(input, STEP);
+        fixture.topUp(world);
+        return world.getEnemiesDefeated();
+    }
+}
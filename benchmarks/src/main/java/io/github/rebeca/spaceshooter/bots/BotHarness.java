@@ -0,0 +1,210 @@
+package io.github.rebeca.spaceshooter.bots;
+
+import io.github.rebeca.spaceshooter.BotPolicy;
+import io.github.rebeca.spaceshooter.CollisionMasks;
+import io.github.rebeca.spaceshooter.GameWorld;
+import io.github.rebeca.spaceshooter.InputState;
+import io.github.rebeca.spaceshooter.Level;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Juega miles de partidas completas con {@link BotPolicy} en todos los nucleos
+ * (tareas ForkJoin) contra cada nivel y resume los resultados: porcentaje de
+ * victorias, tiempo hasta ganar, condicion de victoria y causa de muerte. Cada
+ * hilo reutiliza su propio mundo; las partidas usan semillas fijas, asi que dos
+ * ejecuciones con los mismos argumentos dan los mismos numeros. Las colisiones
+ * usan las mascaras de pixeles del atlas, como en la partida; {@code masks=false}
+ * vuelve a las cajas para comparar.
+ * <p>
+ * Uso: {@code ./gradlew :benchmarks:bots -Pgames=5000 -Pthreads=8 -Pscaling=true -Pmasks=false}
+ */
+public final class BotHarness {
+    private static final float STEP = 1 / 60f;
+    private static final int GAMES_PER_TASK = 16;      // Por debajo de esto no se divide mas
+
+    // Mascaras de todas las partidas, o null para colisiones por cajas; se fija antes de crear los pools
+    private static CollisionMasks masks;
+
+    // Estado reutilizado por cada hilo del pool
+    private static final class Worker {
+        final GameWorld world = new GameWorld(0, 0);
+        final BotPolicy policy = new BotPolicy();
+        final InputState input = new InputState();
+
+        Worker() {
+            world.setMasks(masks);
+        }
+    }
+
+    private static final ThreadLocal<Worker> WORKERS = ThreadLocal.withInitial(Worker::new);
+
+    /** Resultados acumulados de un grupo de partidas. */
+    static final class Stats {
+        int games;
+        int victories;
+        long ticks;
+        double victoryTime;                 // Suma de los tiempos de victoria
+        float fastestVictory = Float.MAX_VALUE;
+        float slowestVictory;
+        final int[] conditions = new int[GameWorld.VictoryCondition.values().length];
+        final int[] deathCauses = new int[GameWorld.EntityKind.values().length];
+
+        void add(GameWorld world, int gameTicks) {
+            games++;
+            ticks += gameTicks;
+            if (world.getOutcome() == GameWorld.Outcome.VICTORY) {
+                victories++;
+                float time = world.getTimeElapsed();
+                victoryTime += time;
+                fastestVictory = Math.min(fastestVictory, time);
+                slowestVictory = Math.max(slowestVictory, time);
+                conditions[world.getVictoryCondition().ordinal()]++;
+            } else if (world.getDeathCause() != null) {
+                deathCauses[world.getDeathCause().ordinal()]++;
+            }
+        }
+
+        Stats merge(Stats other) {
+            games += other.games;
+            victories += other.victories;
+            ticks += other.ticks;
+            victoryTime += other.victoryTime;
+            fastestVictory = Math.min(fastestVictory, other.fastestVictory);
+            slowestVictory = Math.max(slowestVictory, other.slowestVictory);
+            for (int i = 0; i < conditions.length; i++) conditions[i] += other.conditions[i];
+            for (int i = 0; i < deathCauses.length; i++) deathCauses[i] += other.deathCauses[i];
+            return this;
+        }
+    }
+
+    // Juega las partidas [from, to) de un nivel, dividiendo el rango entre hilos
+    private static final class Games extends RecursiveTask<Stats> {
+        private final int levelIndex;
+        private final long seed;
+        private final int from;
+        private final int to;
+
+        Games(int levelIndex, long seed, int from, int to) {
+            this.levelIndex = levelIndex;
+            this.seed = seed;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Stats compute() {
+            if (to - from > GAMES_PER_TASK) {
+                int middle = (from + to) >>> 1;
+                Games left = new Games(levelIndex, seed, from, middle);
+                left.fork();
+                Stats right = new Games(levelIndex, seed, middle, to).compute();
+                return right.merge(left.join());
+            }
+            Worker worker = WORKERS.get();
+            Stats stats = new Stats();
+            for (int game = from; game < to; game++) {
+                stats.add(worker.world, play(worker, levelIndex, seed + game));
+            }
+            return stats;
+        }
+    }
+
+    // Una partida completa; devuelve los ticks jugados
+    static int play(Worker worker, int levelIndex, long seed) {
+        GameWorld world = worker.world;
+        world.reset(levelIndex, seed);
+        int maxTicks = (int) ((world.getLevel().victoryTime + 1) / STEP);  // La victoria por tiempo la cierra antes
+        int ticks = 0;
+        while (world.getOutcome() == GameWorld.Outcome.RUNNING && ticks < maxTicks) {
+            worker.policy.decide(world, worker.input);
+            world.step(worker.input, STEP);
+            ticks++;
+        }
+        return ticks;
+    }
+
+    public static void main(String[] args) {
+        int games = intArg(args, "games", 2000);
+        int threads = intArg(args, "threads", Runtime.getRuntime().availableProcessors());
+        long seed = intArg(args, "seed", 1);
+        boolean scaling = Boolean.parseBoolean(stringArg(args, "scaling", "false"));
+        masks = Boolean.parseBoolean(stringArg(args, "masks", "true")) ? GameplayMasks.get() : null;
+        System.out.println("collisions: " + (masks != null ? "pixel masks" : "boxes"));
+
+        if (scaling) {
+            // Misma carga con 1, 2, 4... hilos para ver si escala con los nucleos,
+            // despues de una pasada completa para que el JIT no favorezca a las ultimas
+            run(games, threads, seed, false);
+            double single = 0;
+            for (int n = 1; n <= threads; n = n == threads ? threads + 1 : Math.min(n * 2, threads)) {
+                double rate = run(games, n, seed, false);
+                if (n == 1) single = rate;
+                System.out.printf("%2d threads: %,10.0f games/s  speedup %.2fx%n", n, rate, rate / single);
+            }
+        } else {
+            run(games, threads, seed, true);
+        }
+    }
+
+    // Juega todos los niveles y devuelve las partidas por segundo
+    private static double run(int gamesPerLevel, int threads, long seed, boolean report) {
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            run(pool, 0, Math.min(gamesPerLevel, 64), seed);   // Calentamiento del JIT
+            long start = System.nanoTime();
+            Stats[] results = new Stats[GameWorld.LEVELS.length];
+            for (int level = 0; level < results.length; level++) {
+                results[level] = run(pool, level, gamesPerLevel, seed);
+            }
+            double seconds = (System.nanoTime() - start) / 1e9;
+            double rate = gamesPerLevel * results.length / seconds;
+            if (report) {
+                for (int level = 0; level < results.length; level++) print(GameWorld.LEVELS[level], results[level]);
+                System.out.printf("%d games on %d threads in %.2f s: %,.0f games/s%n",
+                    gamesPerLevel * results.length, threads, seconds, rate);
+            }
+            return rate;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static Stats run(ForkJoinPool pool, int levelIndex, int games, long seed) {
+        return pool.invoke(new Games(levelIndex, seed, 0, games));
+    }
+
+    private static void print(Level level, Stats stats) {
+        System.out.println(level.name);
+        System.out.printf("  win rate       %5.1f%% (%d/%d)%n", 100.0 * stats.victories / stats.games, stats.victories, stats.games);
+        if (stats.victories > 0) {
+            System.out.printf("  time to win    avg %.1f s, min %.1f s, max %.1f s%n",
+                stats.victoryTime / stats.victories, stats.fastestVictory, stats.slowestVictory);
+        }
+        System.out.printf("  game length    avg %.1f s%n", stats.ticks * STEP / stats.games);
+        System.out.print("  victory by    ");
+        for (GameWorld.VictoryCondition condition : GameWorld.VictoryCondition.values()) {
+            System.out.printf(" %s %d", condition.name().toLowerCase(), stats.conditions[condition.ordinal()]);
+        }
+        System.out.println();
+        System.out.print("  killed by     ");
+        for (GameWorld.EntityKind kind : GameWorld.EntityKind.values()) {
+            int deaths = stats.deathCauses[kind.ordinal()];
+            if (deaths > 0) System.out.printf(" %s %d", kind.name().toLowerCase(), deaths);
+        }
+        System.out.println();
+    }
+
+    // Argumentos con la forma nombre=valor
+    private static String stringArg(String[] args, String name, String defaultValue) {
+        for (String arg : args) {
+            if (arg.startsWith(name + "=")) return arg.substring(name.length() + 1);
+        }
+        return defaultValue;
+    }
+
+    private static int intArg(String[] args, String name, int defaultValue) {
+        return Integer.parseInt(stringArg(args, name, Integer.toString(defaultValue)));
+    }
+}
@@ -0,0 +1,44 @@
+package io.github.rebeca.spaceshooter.bots;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxNativesLoader;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import io.github.rebeca.spaceshooter.Assets;
+import io.github.rebeca.spaceshooter.CollisionMasks;
+import io.github.rebeca.spaceshooter.GameWorld;
+
+/**
+ * Mascaras de colision del atlas de juego cargadas sin ventana ni OpenGL, para que
+ * los bots y los benchmarks midan las mismas colisiones por pixel que la partida.
+ * Se crean una sola vez por proceso y despues solo se leen, asi que todos los
+ * hilos pueden compartirlas.
+ */
+public final class GameplayMasks {
+    // Gradle lanza las tareas desde assets/, el modulo o la raiz del proyecto
+    private static final String[] ASSET_DIRS = {"", "assets/", "../assets/"};
+
+    private static CollisionMasks masks;
+
+    private GameplayMasks() {
+    }
+
+    public static synchronized CollisionMasks get() {
+        if (masks == null) {
+            GdxNativesLoader.load();                // Solo los nativos de Pixmap
+            CollisionMasks loaded = new CollisionMasks(atlasFile());
+            // Crea ya las mascaras que usa GameWorld; despues get() no modifica la cache
+            new GameWorld(0, 0).setMasks(loaded);
+            loaded.dispose();                       // Libera los Pixmap; las mascaras siguen valiendo
+            masks = loaded;
+        }
+        return masks;
+    }
+
+    private static FileHandle atlasFile() {
+        for (String dir : ASSET_DIRS) {
+            FileHandle file = new FileHandle(dir + Assets.GAMEPLAY_ATLAS);
+            if (file.exists()) return file;
+        }
+        throw new GdxRuntimeException("Gameplay atlas not found, run from the assets directory: " + Assets.GAMEPLAY_ATLAS);
+    }
+}
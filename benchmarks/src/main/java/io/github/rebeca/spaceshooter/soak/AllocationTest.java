@@ -0,0 +1,134 @@
+package io.github.rebeca.spaceshooter.soak;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.backends.headless.mock.input.MockInput;
+import io.github.rebeca.spaceshooter.GameScreen;
+import io.github.rebeca.spaceshooter.GameWorld;
+import io.github.rebeca.spaceshooter.InputState;
+import io.github.rebeca.spaceshooter.Main;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Prueba de regresion de asignaciones: en cada nivel juega un mundo sin fin
+ * disparando y moviendose de lado a lado, primero solo con {@link GameWorld#step}
+ * y despues con {@link GameScreen#render} completo (simulacion, dibujo y HUD).
+ * Tras calentar mide con {@code ThreadMXBean.getThreadAllocatedBytes} los bytes
+ * que reserva el hilo en {@link #TICKS} ticks y sale con codigo 1 si alguno pasa
+ * de {@link #BUDGET}.
+ * <p>
+ * Uso: {@code ./gradlew :benchmarks:allocations}
+ */
+public final class AllocationTest {
+    private static final int TICKS = 1000;
+    // Cubre el arranque del boss del nivel 3 y los primeros patrones de balas
+    private static final int WARMUP_TICKS = 2400;
+    private static final int SWEEP_TICKS = 90;          // Ticks en cada sentido
+    // Margen para reservas puntuales; un solo objeto por tick (16 bytes o mas) ya lo supera
+    private static final long BUDGET = 8 * 1024;
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private int tick;
+
+    public static void main(String[] args) {
+        HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+        config.updatesPerSecond = -1;             // El bucle lo lleva la prueba, no el backend
+        new HeadlessApplication(new ApplicationAdapter() {
+            @Override
+            public void create() {
+                boolean passed;
+                try {
+                    passed = new AllocationTest().run();
+                } catch (Throwable e) {
+                    e.printStackTrace();
+                    passed = false;
+                }
+                System.exit(passed ? 0 : 1);
+            }
+        }, config);
+    }
+
+    public boolean run() {
+        NullGL.install();
+        Gdx.input = new ScriptedInput();
+        Main game = new Main();
+        game.create();
+
+        boolean passed = true;
+        InputState input = new InputState();
+        for (int level = 0; level < GameWorld.LEVELS.length; level++) {
+            GameWorld world = new GameWorld(level, level);
+            world.setEndless(true);
+            world.setMasks(game.masks);
+            for (int i = 0; i < WARMUP_TICKS; i++) world.step(script(input), GameScreen.STEP);
+            long before = allocatedBytes();
+            for (int i = 0; i < TICKS; i++) world.step(script(input), GameScreen.STEP);
+            long bytes = allocatedBytes() - before;   // Antes de montar el nombre, que tambien reserva
+            passed &= check("GameWorld.step    level " + (level + 1), bytes);
+
+            world = new GameWorld(level, level);
+            world.setEndless(true);
+            GameScreen screen = new GameScreen(game, world);
+            screen.show();
+            for (int i = 0; i < WARMUP_TICKS; i++) frame(screen);
+            before = allocatedBytes();
+            for (int i = 0; i < TICKS; i++) frame(screen);
+            bytes = allocatedBytes() - before;
+            passed &= check("GameScreen.render level " + (level + 1), bytes);
+            screen.dispose();
+        }
+        game.dispose();
+        System.out.println(passed ? "PASS" : "FAIL");
+        return passed;
+    }
+
+    // Un frame de exactamente un tick, con la entrada del guion en el teclado falso
+    private void frame(GameScreen screen) {
+        tick++;
+        screen.render(GameScreen.STEP);
+    }
+
+    // Dispara siempre y barre la pantalla de un lado a otro
+    private InputState script(InputState input) {
+        tick++;
+        input.clear();
+        input.fire = true;
+        input.left = sweepingLeft(tick);
+        input.right = !input.left;
+        return input;
+    }
+
+    private static boolean sweepingLeft(int tick) {
+        return (tick / SWEEP_TICKS) % 2 == 0;
+    }
+
+    private static long allocatedBytes() {
+        return THREADS.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private static boolean check(String name, long bytes) {
+        boolean passed = bytes <= BUDGET;
+        System.out.printf("%s: %d bytes in %d ticks (%.2f bytes/tick, budget %d)%s%n",
+            name, bytes, TICKS, bytes / (double) TICKS, BUDGET, passed ? "" : "  FAIL");
+        return passed;
+    }
+
+    // Teclado falso que sigue el mismo guion que los ticks de GameWorld
+    private final class ScriptedInput extends MockInput {
+        @Override
+        public boolean isKeyPressed(int key) {
+            switch (key) {
+                case Input.Keys.SPACE: return true;
+                case Input.Keys.LEFT: return sweepingLeft(tick);
+                case Input.Keys.RIGHT: return !sweepingLeft(tick);
+                default: return false;
+            }
+        }
+    }
+}
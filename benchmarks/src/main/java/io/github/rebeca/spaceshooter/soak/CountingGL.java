@@ -0,0 +1,92 @@
+package io.github.rebeca.spaceshooter.soak;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.IntBuffer;
+
+/**
+ * GL20 falso para el backend headless. No dibuja nada, pero lleva la cuenta de
+ * los objetos GL vivos (texturas, buffers, programas y shaders) para detectar
+ * recursos nativos que nunca se liberan. Las consultas glGet* devuelven 1, asi
+ * que los shaders "compilan" y los programas "enlazan" sin error.
+ */
+public final class CountingGL implements InvocationHandler {
+    private int nextId = 1;
+    private int textures;
+    private int buffers;
+    private int programs;
+    private int shaders;
+    private int framebuffers;
+
+    public static CountingGL install() {
+        CountingGL counter = new CountingGL();
+        GL20 gl = (GL20) Proxy.newProxyInstance(GL20.class.getClassLoader(), new Class<?>[] {GL20.class}, counter);
+        Gdx.gl = gl;
+        Gdx.gl20 = gl;
+        return counter;
+    }
+
+    public int getTextures() { return textures; }
+    public int getBuffers() { return buffers; }
+    public int getPrograms() { return programs; }
+    public int getShaders() { return shaders; }
+    public int getFramebuffers() { return framebuffers; }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) {
+        switch (method.getName()) {
+            // Creacion
+            case "glGenTexture": textures++; return nextId++;
+            case "glGenBuffer": buffers++; return nextId++;
+            case "glGenFramebuffer": framebuffers++; return nextId++;
+            case "glCreateProgram": programs++; return nextId++;
+            case "glCreateShader": shaders++; return nextId++;
+            case "glGenTextures": textures += generate(args); return null;
+            case "glGenBuffers": buffers += generate(args); return null;
+            case "glGenFramebuffers": framebuffers += generate(args); return null;
+
+            // Liberacion
+            case "glDeleteTexture": textures--; return null;
+            case "glDeleteBuffer": buffers--; return null;
+            case "glDeleteFramebuffer": framebuffers--; return null;
+            case "glDeleteProgram": programs--; return null;
+            case "glDeleteShader": shaders--; return null;
+            case "glDeleteTextures": textures -= (Integer) args[0]; return null;
+            case "glDeleteBuffers": buffers -= (Integer) args[0]; return null;
+            case "glDeleteFramebuffers": framebuffers -= (Integer) args[0]; return null;
+            default: break;
+        }
+
+        // Consultas: escribir 1 en el buffer de salida (estado correcto)
+        if (method.getName().startsWith("glGet") && args != null) {
+            for (Object arg : args) {
+                if (arg instanceof IntBuffer) {
+                    IntBuffer buffer = (IntBuffer) arg;
+                    buffer.put(buffer.position(), 1);
+                }
+            }
+        }
+        return defaultValue(method.getReturnType());
+    }
+
+    // Rellena el buffer de ids de glGen*s y devuelve cuantos se crearon
+    private int generate(Object[] args) {
+        int count = (Integer) args[0];
+        IntBuffer ids = (IntBuffer) args[1];
+        for (int i = 0; i < count; i++) ids.put(ids.position() + i, nextId++);
+        return count;
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (type == void.class) return null;
+        if (type == boolean.class) return false;
+        if (type == int.class) return 0;
+        if (type == float.class) return 0f;
+        if (type == String.class) return "";
+        return null;
+    }
+}
@@ -0,0 +1,223 @@
+package io.github.rebeca.spaceshooter.soak;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.utils.BufferUtils;
+import io.github.rebeca.spaceshooter.Assets;
+import io.github.rebeca.spaceshooter.GameOverScreen;
+import io.github.rebeca.spaceshooter.GameWorld;
+import io.github.rebeca.spaceshooter.LevelTransitionScreen;
+import io.github.rebeca.spaceshooter.Main;
+import io.github.rebeca.spaceshooter.TitleScreen;
+import io.github.rebeca.spaceshooter.VictoryScreen;
+
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Prueba de resistencia: recorre miles de veces el ciclo de pantallas del juego
+ * sobre el backend headless con un GL falso y comprueba que los recursos vivos no
+ * crecen. Al final imprime las transiciones por segundo y sale con codigo 1 si
+ * algun contador crecio sin limite.
+ * <p>
+ * Uso: {@code ./gradlew :benchmarks:soak -Pcycles=20000 -Pframes=2}
+ */
+public final class SoakTest {
+    // Margen para la memoria: el heap y los buffers nativos pueden variar un poco entre muestras
+    private static final double BYTES_TOLERANCE = 0.10;
+    private static final long BYTES_SLACK = 1 << 20;
+
+    private final int cycles;
+    private final int framesPerScreen;
+    private final int sampleEvery;
+
+    private Main game;
+    private CountingGL gl;
+    private long transitions = 0;
+    private final List<Sample> samples = new ArrayList<>();
+
+    public SoakTest(int cycles, int framesPerScreen, int sampleEvery) {
+        this.cycles = cycles;
+        this.framesPerScreen = framesPerScreen;
+        this.sampleEvery = Math.max(1, sampleEvery);
+    }
+
+    public static void main(String[] args) {
+        int cycles = intArg(args, "cycles", 20000);
+        int frames = intArg(args, "frames", 2);
+        int sampleEvery = intArg(args, "sampleEvery", Math.max(1, cycles / 40));
+
+        HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+        config.updatesPerSecond = -1;             // El bucle lo lleva la prueba, no el backend
+        SoakTest test = new SoakTest(cycles, frames, sampleEvery);
+        new HeadlessApplication(new ApplicationAdapter() {
+            @Override
+            public void create() {
+                boolean passed;
+                try {
+                    passed = test.run();
+                } catch (Throwable e) {
+                    e.printStackTrace();
+                    passed = false;
+                }
+                System.exit(passed ? 0 : 1);
+            }
+        }, config);
+    }
+
+    // Ejecuta todos los ciclos y devuelve true si ningun recurso crecio
+    public boolean run() {
+        gl = CountingGL.install();
+        game = new Main();
+        game.create();
+
+        // Un ciclo de calentamiento para que las caches compartidas ya esten llenas
+        cycle();
+        samples.add(sample(0));
+        transitions = 0;
+
+        long start = System.nanoTime();
+        for (int i = 1; i <= cycles; i++) {
+            cycle();
+            if (i % sampleEvery == 0 || i == cycles) {
+                samples.add(sample(i));
+            }
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        for (Sample s : samples) System.out.println(s);
+        System.out.printf("%d cycles, %d transitions in %.1f s: %.0f transitions/s%n",
+            cycles, transitions, seconds, transitions / seconds);
+
+        boolean passed = check();
+        game.dispose();
+        Sample after = sample(-1);
+        System.out.println("after dispose: " + after);
+        if (after.glTextures != 0 || after.glPrograms != 0) {
+            System.out.println("FAIL: GL objects still alive after Main.dispose()");
+            passed = false;
+        }
+        System.out.println(passed ? "PASS" : "FAIL");
+        return passed;
+    }
+
+    // Titulo -> transicion -> juego -> game over -> reintentar -> transicion -> siguiente nivel -> victoria
+    private void cycle() {
+        show(new TitleScreen(game));
+        show(new LevelTransitionScreen(game, 0));
+        game.prepareGame(0);
+        game.showPreparedGame();
+        render();
+        transitions++;
+        show(new GameOverScreen(game, false, 0, 12.5f, 7, 3));
+        game.showGame(0);
+        render();
+        transitions++;
+        show(new LevelTransitionScreen(game, 1));
+        game.prepareGame(1);
+        game.showPreparedGame();
+        render();
+        transitions++;
+        show(new VictoryScreen(game, GameWorld.LEVELS.length, 60f, 20, 10));
+    }
+
+    private void show(Screen screen) {
+        game.setScreen(screen);
+        render();
+        transitions++;
+    }
+
+    private void render() {
+        for (int i = 0; i < framesPerScreen; i++) {
+            game.render();
+        }
+    }
+
+    // Los contadores deben quedarse en el valor de referencia; la memoria, dentro del margen
+    private boolean check() {
+        Sample base = samples.get(0);
+        boolean passed = true;
+        int from = samples.size() * 3 / 4;
+        long heap = 0, nativeBytes = 0;
+        for (int i = from; i < samples.size(); i++) {
+            Sample s = samples.get(i);
+            passed &= bounded("screens", s.screens, base.screens);
+            passed &= bounded("textures", s.textures, base.textures);
+            passed &= bounded("GL textures", s.glTextures, base.glTextures);
+            passed &= bounded("GL buffers", s.glBuffers, base.glBuffers);
+            passed &= bounded("GL programs (SpriteBatch/Stage)", s.glPrograms, base.glPrograms);
+            passed &= bounded("font references", s.fontReferences, base.fontReferences);
+            passed &= bounded("loaded assets", s.loadedAssets, base.loadedAssets);
+            heap = Math.max(heap, s.heap);
+            nativeBytes = Math.max(nativeBytes, s.nativeBytes);
+        }
+        passed &= boundedBytes("heap", heap, base.heap);
+        passed &= boundedBytes("native", nativeBytes, base.nativeBytes);
+        return passed;
+    }
+
+    private static boolean bounded(String name, long value, long base) {
+        if (value <= base) return true;
+        System.out.println("FAIL: " + name + " grew from " + base + " to " + value);
+        return false;
+    }
+
+    private static boolean boundedBytes(String name, long value, long base) {
+        long limit = (long) (base * (1 + BYTES_TOLERANCE)) + BYTES_SLACK;
+        if (value <= limit) return true;
+        System.out.println("FAIL: " + name + " grew from " + base + " to " + value + " bytes (limit " + limit + ")");
+        return false;
+    }
+
+    private Sample sample(int cycle) {
+        // Forzar recoleccion para medir solo lo que sigue vivo
+        for (int i = 0; i < 3; i++) System.gc();
+        Runtime runtime = Runtime.getRuntime();
+
+        Sample s = new Sample();
+        s.cycle = cycle;
+        s.screens = game.getLiveScreenCount();
+        s.textures = game.getLiveTextureCount();
+        s.glTextures = gl.getTextures();
+        s.glBuffers = gl.getBuffers();
+        s.glPrograms = gl.getPrograms();
+        s.fontReferences = game.assets.getReferenceCount(Assets.FONT);
+        s.loadedAssets = game.assets.getLoadedCount();
+        s.heap = runtime.totalMemory() - runtime.freeMemory();
+        s.nativeBytes = BufferUtils.getAllocatedBytesUnsafe() + directBytes();
+        return s;
+    }
+
+    // Memoria de los ByteBuffer directos (los que crea BufferUtils.newByteBuffer)
+    private static long directBytes() {
+        for (BufferPoolMXBean pool : ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class)) {
+            if ("direct".equals(pool.getName())) return pool.getMemoryUsed();
+        }
+        return 0;
+    }
+
+    // Argumentos con la forma nombre=valor
+    private static int intArg(String[] args, String name, int defaultValue) {
+        for (String arg : args) {
+            if (arg.startsWith(name + "=")) return Integer.parseInt(arg.substring(name.length() + 1));
+        }
+        return defaultValue;
+    }
+
+    private static final class Sample {
+        int cycle;
+        int screens, textures, glTextures, glBuffers, glPrograms, fontReferences, loadedAssets;
+        long heap, nativeBytes;
+
+        @Override
+        public String toString() {
+            return String.format("cycle %6d  screens %d  textures %d  gl[tex %d buf %d prog %d]  font refs %d  assets %d  heap %.1f MB  native %.1f KB",
+                cycle, screens, textures, glTextures, glBuffers, glPrograms, fontReferences, loadedAssets,
+                heap / 1048576.0, nativeBytes / 1024.0);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package io.github.rebeca.spaceshooter;
+
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.BitmapFontLoader;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.LongArray;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/**
+ * Cache de recursos compartida por todas las pantallas, respaldada por un
+ * {@link AssetManager}. Cada {@code borrow} suma una referencia y cada
+ * {@code release} la resta; el recurso se libera al llegar a cero. Asi una
+ * fuente o textura se decodifica una sola vez aunque varias pantallas la usen.
+ * <p>
+ * La fuente compartida se usa siempre con escala 1: quien la escale para dibujar
+ * debe restaurarla, y las etiquetas usan {@code Label.setFontScale}.
+ */
+public class Assets implements Disposable {
+    public static final String FONT = "fonts/audiowide.fnt";
+    public static final String BACKGROUND = "ui/MainMenu/background.png";
+    public static final String GAMEPLAY_ATLAS = "atlas/gameplay.atlas";
+
+    private final AssetManager manager = new AssetManager();
+    private final ObjectIntMap<String> references = new ObjectIntMap<>();
+
+    // Recursos en cola y cuando se pidieron, para avisar a la telemetria al terminar
+    private final Array<String> pending = new Array<>();
+    private final LongArray pendingSince = new LongArray();
+    private Telemetry telemetry = Telemetry.NONE;
+
+    public void setTelemetry(Telemetry telemetry) {
+        this.telemetry = telemetry != null ? telemetry : Telemetry.NONE;
+    }
+
+    // Pide un recurso, cargandolo en el momento si aun no esta en memoria
+    public <T> T borrow(String path, Class<T> type) {
+        if (!manager.isLoaded(path, type)) {
+            if (!manager.contains(path)) load(path, type);  // Puede estar ya en cola por preload
+            manager.finishLoadingAsset(path);
+            notifyLoaded();
+        }
+        references.getAndIncrement(path, 0, 1);
+        return manager.get(path, type);
+    }
+
+    /**
+     * Pone un recurso en cola para cargarlo en segundo plano sin sumar referencias;
+     * la pantalla que lo use lo pide despues con {@code borrow}, que ya no bloquea.
+     * El avance se hace llamando a {@link #update()} en cada frame.
+     */
+    public <T> void preload(String path, Class<T> type) {
+        if (!manager.contains(path)) load(path, type);
+    }
+
+    // Recursos que necesita GameScreen
+    public void preloadGameplay() {
+        preload(GAMEPLAY_ATLAS, TextureAtlas.class);
+        preload(BACKGROUND, Texture.class);
+        preload(FONT, BitmapFont.class);
+    }
+
+    // Avanza la carga en segundo plano; devuelve true cuando no queda nada pendiente
+    public boolean update() {
+        boolean done = manager.update();
+        notifyLoaded();
+        return done;
+    }
+
+    // Avisa de los recursos en cola que ya terminaron de cargar
+    private void notifyLoaded() {
+        for (int i = pending.size - 1; i >= 0; i--) {
+            String path = pending.get(i);
+            if (manager.isLoaded(path)) {
+                telemetry.assetLoaded(path, TimeUtils.nanoTime() - pendingSince.get(i));
+                pending.removeIndex(i);
+                pendingSince.removeIndex(i);
+            }
+        }
+    }
+
+    // Progreso de la carga en curso, entre 0 y 1
+    public float getProgress() {
+        return manager.getProgress();
+    }
+
+    public Texture borrowTexture(String path) {
+        return borrow(path, Texture.class);
+    }
+
+    public TextureAtlas borrowAtlas(String path) {
+        return borrow(path, TextureAtlas.class);
+    }
+
+    // La fuente toma su pagina del atlas de juego
+    public BitmapFont borrowFont() {
+        return borrow(FONT, BitmapFont.class);
+    }
+
+    // Devuelve un recurso pedido con borrow
+    public void release(String path) {
+        int count = references.get(path, 0);
+        if (count <= 0) return;
+        if (count == 1) {
+            references.remove(path, 0);
+            manager.unload(path);
+        } else {
+            references.put(path, count - 1);
+        }
+    }
+
+    public int getReferenceCount(String path) {
+        return references.get(path, 0);
+    }
+
+    // Cantidad de recursos distintos en memoria (incluye dependencias)
+    public int getLoadedCount() {
+        return manager.getLoadedAssets();
+    }
+
+    private <T> void load(String path, Class<T> type) {
+        pending.add(path);
+        pendingSince.add(TimeUtils.nanoTime());
+        if (type == BitmapFont.class && FONT.equals(path)) {
+            BitmapFontLoader.BitmapFontParameter parameter = new BitmapFontLoader.BitmapFontParameter();
+            parameter.atlasName = GAMEPLAY_ATLAS;
+            manager.load(FONT, BitmapFont.class, parameter);
+        } else {
+            manager.load(path, type);
+        }
+    }
+
+    @Override
+    public void dispose() {
+        references.clear();
+        pending.clear();
+        pendingSince.clear();
+        manager.dispose();
+    }
+}
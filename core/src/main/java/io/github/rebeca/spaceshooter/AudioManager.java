@@ -0,0 +1,182 @@
+package io.github.rebeca.spaceshooter;
+
+import com.badlogic.gdx.audio.Sound;
+
+/**
+ * Limitador de voces para los efectos de sonido. Las pantallas piden sonidos con
+ * {@link #play} y las peticiones se lanzan juntas una vez por frame en
+ * {@link #update}. Cada sonido tiene un maximo de instancias, un intervalo minimo
+ * entre disparos y una prioridad; si no queda hueco se corta la voz mas antigua de
+ * menor o igual prioridad, y si no hay ninguna la peticion se descarta.
+ * <p>
+ * libGDX no avisa cuando un sonido termina, asi que cada voz se da por acabada
+ * cuando pasa la duracion registrada del sonido.
+ */
+public class AudioManager {
+    public static final int MAX_VOICES = 12;           // Voces de efectos a la vez, entre todos los sonidos
+    private static final int MAX_SOUNDS = 16;
+    private static final int MAX_REQUESTS = 32;        // Peticiones por frame
+
+    // Sonidos registrados
+    private final Sound[] sounds = new Sound[MAX_SOUNDS];
+    private final int[] maxInstances = new int[MAX_SOUNDS];
+    private final float[] minInterval = new float[MAX_SOUNDS];
+    private final int[] priority = new int[MAX_SOUNDS];
+    private final float[] duration = new float[MAX_SOUNDS];
+    private final float[] lastPlayed = new float[MAX_SOUNDS];
+    private int soundCount;
+
+    // Voces sonando
+    private final int[] voiceSound = new int[MAX_VOICES];
+    private final long[] voiceId = new long[MAX_VOICES];
+    private final float[] voiceStart = new float[MAX_VOICES];
+    private int voiceCount;
+
+    // Peticiones pendientes del frame
+    private final int[] requestSound = new int[MAX_REQUESTS];
+    private final float[] requestVolume = new float[MAX_REQUESTS];
+    private int requestCount;
+
+    private float time;
+    private int played;
+    private int dropped;                      // Peticiones que no llegaron a sonar
+    private int stolen;                       // Voces cortadas para dejar sitio
+
+    /**
+     * Registra un sonido y devuelve su identificador para {@link #play}.
+     * {@code duration} es lo que dura el sonido en segundos.
+     */
+    public int register(Sound sound, int maxInstances, float minInterval, int priority, float duration) {
+        int id = soundCount++;
+        sounds[id] = sound;
+        this.maxInstances[id] = maxInstances;
+        this.minInterval[id] = minInterval;
+        this.priority[id] = priority;
+        this.duration[id] = duration;
+        lastPlayed[id] = -Float.MAX_VALUE;
+        return id;
+    }
+
+    public void play(int sound) {
+        play(sound, 1f);
+    }
+
+    // Pide un sonido; se lanza en el proximo update
+    public void play(int sound, float volume) {
+        if (requestCount == MAX_REQUESTS) {
+            dropped++;
+            return;
+        }
+        requestSound[requestCount] = sound;
+        requestVolume[requestCount] = volume;
+        requestCount++;
+    }
+
+    // Lanza las peticiones del frame, primero las de mayor prioridad
+    public void update(float delta) {
+        time += delta;
+        expireVoices();
+        sortRequests();
+        for (int i = 0; i < requestCount; i++) {
+            issue(requestSound[i], requestVolume[i]);
+        }
+        requestCount = 0;
+    }
+
+    private void issue(int sound, float volume) {
+        // Varias peticiones muy seguidas del mismo sonido suenan como una
+        if (time - lastPlayed[sound] < minInterval[sound]) {
+            dropped++;
+            return;
+        }
+
+        if (instances(sound) >= maxInstances[sound]) {
+            stopVoice(oldestVoice(sound, Integer.MAX_VALUE));     // Cortar la instancia mas antigua
+        } else if (voiceCount == MAX_VOICES) {
+            int victim = oldestVoice(-1, priority[sound]);
+            if (victim < 0) {
+                dropped++;                   // Todo lo que suena es mas importante
+                return;
+            }
+            stopVoice(victim);
+        }
+
+        long id = sounds[sound].play(volume);
+        if (id == -1) {
+            dropped++;                       // El backend no tenia voces libres
+            return;
+        }
+        voiceSound[voiceCount] = sound;
+        voiceId[voiceCount] = id;
+        voiceStart[voiceCount] = time;
+        voiceCount++;
+        lastPlayed[sound] = time;
+        played++;
+    }
+
+    private void expireVoices() {
+        for (int i = voiceCount - 1; i >= 0; i--) {
+            if (time - voiceStart[i] >= duration[voiceSound[i]]) removeVoice(i);
+        }
+    }
+
+    private int instances(int sound) {
+        int count = 0;
+        for (int i = 0; i < voiceCount; i++) {
+            if (voiceSound[i] == sound) count++;
+        }
+        return count;
+    }
+
+    // Voz mas antigua de un sonido (o de cualquiera con sound < 0) con prioridad <= maxPriority
+    private int oldestVoice(int sound, int maxPriority) {
+        int oldest = -1;
+        for (int i = 0; i < voiceCount; i++) {
+            if (sound >= 0 && voiceSound[i] != sound) continue;
+            if (priority[voiceSound[i]] > maxPriority) continue;
+            if (oldest < 0 || voiceStart[i] < voiceStart[oldest]) oldest = i;
+        }
+        return oldest;
+    }
+
+    private void stopVoice(int voice) {
+        sounds[voiceSound[voice]].stop(voiceId[voice]);
+        removeVoice(voice);
+        stolen++;
+    }
+
+    private void removeVoice(int voice) {
+        int last = --voiceCount;
+        voiceSound[voice] = voiceSound[last];
+        voiceId[voice] = voiceId[last];
+        voiceStart[voice] = voiceStart[last];
+    }
+
+    // Orden por insercion estable: pocas peticiones por frame
+    private void sortRequests() {
+        for (int i = 1; i < requestCount; i++) {
+            int sound = requestSound[i];
+            float volume = requestVolume[i];
+            int j = i - 1;
+            while (j >= 0 && priority[requestSound[j]] < priority[sound]) {
+                requestSound[j + 1] = requestSound[j];
+                requestVolume[j + 1] = requestVolume[j];
+                j--;
+            }
+            requestSound[j + 1] = sound;
+            requestVolume[j + 1] = volume;
+        }
+    }
+
+    // Corta todos los efectos, por ejemplo al salir de la pantalla de juego
+    public void stopAll() {
+        for (int i = 0; i < voiceCount; i++) sounds[voiceSound[i]].stop(voiceId[i]);
+        voiceCount = 0;
+        requestCount = 0;
+    }
+
+    public int getVoiceCount() { return voiceCount; }
+    public int getPlayedCount() { return played; }
+    public int getDroppedCount() { return dropped; }
+    public int getStolenCount() { return stolen; }
+}
@@ -0,0 +1,156 @@
+package io.github.rebeca.spaceshooter;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
+
+/**
+ * Jugador automatico sencillo para pruebas de equilibrio: se coloca debajo del
+ * enemigo mas cercano (o del jefe) y dispara sin parar, pero antes se aparta de
+ * cualquier enemigo, obstaculo o bala que vaya a llegar a su altura en poco tiempo. Solo lee el
+ * estado del mundo y no crea objetos, asi que se puede usar en muchos hilos a la vez
+ * (una instancia por hilo).
+ */
+public class BotPolicy {
+    private static final float LOOKAHEAD = 0.8f;     // Segundos de antelacion para ver amenazas
+    private static final float MARGIN = 10;          // Distancia extra a los lados de cada amenaza
+    private static final float SAMPLE_STEP = 16;     // Separacion entre posiciones candidatas
+    private static final float DEAD_ZONE = 4;        // No moverse por diferencias menores
+    private static final float LASER_OFFSET = 46;    // Centro del laser respecto a player.x
+    private static final float BULLET_LOOKAHEAD = 0.7f;
+    private static final float BULLET_MARGIN = 24;   // Mitad de la zona de impacto mas holgura
+
+    private final boolean[] safe = new boolean[(int) (GameWorld.WIDTH / SAMPLE_STEP) + 1];
+    private final boolean[] clear = new boolean[safe.length];      // Sin balas, aunque haya otras amenazas
+
+    public void decide(GameWorld world, InputState out) {
+        out.clear();
+        out.fire = true;
+        Rectangle player = world.player;
+
+        float target = aimTarget(world);
+        if (!world.isInvincible()) {
+            target = safeTarget(world, target);
+        }
+
+        if (target > player.x + DEAD_ZONE) {
+            out.right = true;
+        } else if (target < player.x - DEAD_ZONE) {
+            out.left = true;
+        }
+    }
+
+    // Posicion para que el laser salga bajo el enemigo mas bajo
+    private float aimTarget(GameWorld world) {
+        EntityStore enemies = world.enemies;
+        int closest = -1;
+        for (int i = 0; i < enemies.size; i++) {
+            if (closest < 0 || enemies.y[i] < enemies.y[closest]) closest = i;
+        }
+        float center;
+        if (closest >= 0) {
+            center = enemies.x[closest] + enemies.width[closest] / 2;
+        } else if (world.isBossActive()) {
+            center = world.boss.x + world.boss.width / 2;
+        } else {
+            return GameWorld.WIDTH / 2 - world.player.width / 2;
+        }
+        return MathUtils.clamp(center - LASER_OFFSET, 0, GameWorld.WIDTH - world.player.width);
+    }
+
+    /**
+     * La posicion segura mas cercana al objetivo a la que se llega sin cruzar ninguna
+     * insegura. Si el jugador ya esta en peligro vale cualquier posicion segura a la
+     * que se llegue sin cruzar balas, y si ninguna lo es se queda con el objetivo.
+     */
+    private float safeTarget(GameWorld world, float target) {
+        Rectangle player = world.player;
+        float maxX = GameWorld.WIDTH - player.width;
+        int samples = (int) (maxX / SAMPLE_STEP) + 1;
+        for (int i = 0; i < samples; i++) {
+            float x = i * SAMPLE_STEP;
+            clear[i] = isSafe(world.bullets, player, x);
+            safe[i] = clear[i] && isSafe(world.enemies, player, x) && isSafe(world.obstacles, player, x);
+        }
+        int here = Math.min(samples - 1, Math.round(player.x / SAMPLE_STEP));
+
+        if (isSafe(world, player.x)) {
+            // Tramo de posiciones seguras seguidas alrededor del jugador
+            if (!safe[here]) return player.x;
+            int low = here, high = here;
+            while (low > 0 && safe[low - 1]) low--;
+            while (high < samples - 1 && safe[high + 1]) high++;
+            float clamped = MathUtils.clamp(target, low * SAMPLE_STEP, high * SAMPLE_STEP);
+            return clamped == target && !isSafe(world, target) ? player.x : clamped;
+        }
+
+        // Huir solo por columnas sin balas: las otras amenazas tardan mas en llegar. Si ya
+        // viene una bala, a la posicion segura mas cercana, sin pensar en el objetivo
+        boolean dodging = !clear[here];
+        int low = dodging ? 0 : here, high = dodging ? samples - 1 : here;
+        while (low > 0 && clear[low - 1]) low--;
+        while (high < samples - 1 && clear[high + 1]) high++;
+        float best = target;
+        float bestDistance = Float.MAX_VALUE;
+        for (int i = low; i <= high; i++) {
+            if (!safe[i]) continue;
+            float x = i * SAMPLE_STEP;
+            // Preferir lo cercano al jugador (llega antes) y luego al objetivo
+            float distance = Math.abs(x - player.x) * 2 + (dodging ? 0 : Math.abs(x - target));
+            if (distance < bestDistance) {
+                bestDistance = distance;
+                best = x;
+            }
+        }
+        return best;
+    }
+
+    private boolean isSafe(GameWorld world, float x) {
+        return isSafe(world.enemies, world.player, x) && isSafe(world.obstacles, world.player, x)
+            && isSafe(world.bullets, world.player, x);
+    }
+
+    // Ninguna bala pasa pronto cerca del centro del jugador puesto en la columna x
+    private static boolean isSafe(EnemyBullets bullets, Rectangle player, float x) {
+        float centerX = x + player.width / 2;
+        float centerY = player.y + player.height / 2;
+        for (int i = 0; i < bullets.size; i++) {
+            float by = bullets.y[i] + EnemyBullets.SIZE / 2;
+            float vy = bullets.velocityY[i];
+            // Intervalo de tiempo en que la bala esta a la altura del jugador
+            float enter, exit;
+            if (vy < 0) {
+                enter = Math.max(0, (by - centerY - BULLET_MARGIN) / -vy);
+                exit = (by - centerY + BULLET_MARGIN) / -vy;
+            } else if (Math.abs(by - centerY) <= BULLET_MARGIN) {
+                enter = 0;
+                exit = vy > 0 ? (centerY + BULLET_MARGIN - by) / vy : BULLET_LOOKAHEAD;
+            } else {
+                continue;                        // Se aleja o ya paso
+            }
+            exit = Math.min(exit, BULLET_LOOKAHEAD);
+            if (exit < enter) continue;
+            // Recorrido horizontal en ese intervalo contra la columna del jugador
+            float bx = bullets.x[i] + EnemyBullets.SIZE / 2;
+            float vx = bullets.velocityX[i];
+            float from = bx + vx * enter;
+            float to = bx + vx * exit;
+            if (Math.min(from, to) < centerX + BULLET_MARGIN && Math.max(from, to) > centerX - BULLET_MARGIN) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Ninguna entidad del almacen llega a la altura del jugador en la columna x pronto
+    private static boolean isSafe(EntityStore store, Rectangle player, float x) {
+        float top = player.y + player.height;
+        for (int i = 0; i < store.size; i++) {
+            if (store.y[i] + store.height[i] < player.y) continue;          // Ya paso
+            if (store.x[i] - MARGIN >= x + player.width || store.x[i] + store.width[i] + MARGIN <= x) continue;
+            float speed = -store.velocity[i];
+            float arrival = speed > 0 ? (store.y[i] - top) / speed : Float.MAX_VALUE;
+            if (arrival < LOOKAHEAD) return false;
+        }
+        return true;
+    }
+}
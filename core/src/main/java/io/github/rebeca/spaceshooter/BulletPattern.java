@@ -0,0 +1,56 @@
+package io.github.rebeca.spaceshooter;
+
+import com.badlogic.gdx.math.MathUtils;
+
+/**
+ * Un patron de disparo enemigo: cada {@code interval} segundos lanza {@code count}
+ * balas a {@code speed} pixeles por segundo. El anillo las reparte en circulo, la
+ * espiral gira {@code turn} radianes en cada disparo y la rafaga apunta al jugador
+ * con una apertura total de {@code turn} radianes.
+ */
+public class BulletPattern {
+    public enum Shape { RING, SPIRAL, AIMED }
+
+    public final Shape shape;
+    public final int count;                   // Balas por disparo
+    public final float speed;
+    public final float interval;              // Tiempo entre disparos
+    public final float turn;                  // Giro (espiral) o apertura (rafaga)
+
+    public BulletPattern(Shape shape, int count, float speed, float interval, float turn) {
+        this.shape = shape;
+        this.count = count;
+        this.speed = speed;
+        this.interval = interval;
+        this.turn = turn;
+    }
+
+    public static BulletPattern ring(int count, float speed, float interval) {
+        return new BulletPattern(Shape.RING, count, speed, interval, 0);
+    }
+
+    public static BulletPattern spiral(int arms, float speed, float interval, float turn) {
+        return new BulletPattern(Shape.SPIRAL, arms, speed, interval, turn);
+    }
+
+    public static BulletPattern aimed(int count, float speed, float interval, float spread) {
+        return new BulletPattern(Shape.AIMED, count, speed, interval, spread);
+    }
+
+    // Lanza el disparo numero {@code shot} desde (x, y); solo la rafaga usa el objetivo
+    public void fire(EnemyBullets bullets, int shot, float x, float y, float targetX, float targetY) {
+        switch (shape) {
+            case RING:
+                // Cada disparo medio paso girado para que no salgan siempre por el mismo hueco
+                bullets.ring(x, y, count, speed, (shot & 1) * MathUtils.PI / count);
+                break;
+            case SPIRAL:
+                bullets.ring(x, y, count, speed, shot * turn);
+                break;
+            case AIMED:
+                float aim = MathUtils.atan2(targetY - y, targetX - x);
+                bullets.fan(x, y, count, speed, aim, turn);
+                break;
+        }
+    }
+}
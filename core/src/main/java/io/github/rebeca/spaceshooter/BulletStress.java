@@ -0,0 +1,77 @@
+package io.github.rebeca.spaceshooter;
+
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/**
+ * Modo de estres de las balas enemigas. Mantiene en pantalla un numero objetivo de
+ * balas lentas y mide el tiempo real de cada frame completo (simulacion, colision
+ * con el jugador y dibujado). Cuando una ventana de {@link #WINDOW} frames cabe en
+ * el presupuesto de 60 fps sube el objetivo; la primera que no cabe termina la
+ * prueba. El resultado es el mayor numero de balas que aguanto a 60 fps.
+ */
+public class BulletStress {
+    public static final int WINDOW = 120;                       // Frames por escalon
+    private static final long BUDGET = 1_000_000_000L / 60;     // Nanosegundos por frame a 60 fps
+    private static final int START = 1000;
+    private static final int RING = 32;                         // Balas por anillo de relleno
+
+    private final RollingStats frames = new RollingStats(WINDOW);
+    private final RandomXS128 random = new RandomXS128(3);
+    private long lastFrame;
+    private int target = START;
+    private int sustained;                    // Mayor objetivo que cupo en el presupuesto
+    private double failedAverage;             // Media en nanosegundos del escalon que fallo
+    private boolean done;
+
+    /**
+     * Se llama al principio de cada frame: anota lo que tardo el anterior, rellena
+     * las balas hasta el objetivo y decide si sube o termina.
+     */
+    public void frame(GameWorld world) {
+        if (done) return;
+        long now = TimeUtils.nanoTime();
+        if (lastFrame != 0) frames.add(now - lastFrame);
+        lastFrame = now;
+        fill(world.bullets);
+
+        if (frames.getCount() < WINDOW) return;
+        if (frames.average() <= BUDGET) {
+            sustained = target;
+            if (target >= EnemyBullets.CAPACITY) {
+                done = true;                      // Cabe todo lo que admite el almacen
+            } else {
+                target = Math.min(EnemyBullets.CAPACITY, target + Math.max(500, target / 4));
+                frames.clear();
+            }
+        } else {
+            failedAverage = frames.average();
+            done = true;
+        }
+    }
+
+    // Anillos lentos desde puntos al azar, para que cada bala viva varios segundos
+    private void fill(EnemyBullets bullets) {
+        while (bullets.size + RING <= target) {
+            float x = random.nextFloat() * GameWorld.WIDTH;
+            float y = GameWorld.HEIGHT * (0.3f + 0.6f * random.nextFloat());
+            bullets.ring(x, y, RING, 20 + random.nextFloat() * 30, random.nextFloat());
+        }
+    }
+
+    public boolean isDone() {
+        return done;
+    }
+
+    public int getSustained() {
+        return sustained;
+    }
+
+    public String getReport() {
+        if (failedAverage == 0) {
+            return "sustained " + sustained + " enemy bullets at 60 fps (store capacity reached)";
+        }
+        return "sustained " + sustained + " enemy bullets at 60 fps; " + target + " took "
+            + Math.round(failedAverage / 10_000) / 100.0 + " ms per frame";
+    }
+}
@@ -0,0 +1,115 @@
+package io.github.rebeca.spaceshooter;
+
+import com.badlogic.gdx.graphics.Pixmap;
+
+/**
+ * Mascara de colision de un sprite dibujado a un tamaño fijo: un bit por unidad de
+ * mundo, encendido donde el pixel es opaco. Cada fila ocupa {@code words} longs y
+ * la columna c es el bit {@code c % 64} de la palabra {@code c / 64}; la fila 0 es
+ * la de abajo, como en el mundo. Se construye una vez desde el alfa de un
+ * {@link Pixmap} y despues solo se lee, asi que se puede compartir entre mundos.
+ */
+public final class CollisionMask {
+    public static final int ALPHA_THRESHOLD = 128;    // Alfa minimo para que un pixel cuente
+    public static final float STEP = 4;               // Avance maximo entre pruebas de un tramo
+
+    public final int width;
+    public final int height;
+    private final int words;                          // Longs por fila
+    private final long[] bits;
+    // Caja ajustada a los bits encendidos (vacia mientras no haya ninguno)
+    private int left, bottom, right, top;
+
+    public CollisionMask(int width, int height) {
+        this.width = width;
+        this.height = height;
+        words = (width + 63) >> 6;
+        bits = new long[words * height];
+    }
+
+    /**
+     * Mascara del rectangulo (x, y, w, h) del pixmap escalado a width x height. Cada
+     * bit toma el pixel mas cercano a su centro; el pixmap va de arriba a abajo y la
+     * mascara de abajo a arriba.
+     */
+    public static CollisionMask fromPixmap(Pixmap pixmap, int x, int y, int w, int h, int width, int height) {
+        CollisionMask mask = new CollisionMask(width, height);
+        for (int r = 0; r < height; r++) {
+            int py = y + h - 1 - (int) ((r + 0.5f) * h / height);
+            for (int c = 0; c < width; c++) {
+                int px = x + (int) ((c + 0.5f) * w / width);
+                if ((pixmap.getPixel(px, py) & 0xff) >= ALPHA_THRESHOLD) mask.set(c, r);
+            }
+        }
+        return mask;
+    }
+
+    public void set(int c, int r) {
+        if (left >= right) {
+            left = c;
+            bottom = r;
+            right = c + 1;
+            top = r + 1;
+        } else {
+            left = Math.min(left, c);
+            bottom = Math.min(bottom, r);
+            right = Math.max(right, c + 1);
+            top = Math.max(top, r + 1);
+        }
+        bits[r * words + (c >> 6)] |= 1L << c;
+    }
+
+    public boolean get(int c, int r) {
+        return (bits[r * words + (c >> 6)] & 1L << c) != 0;
+    }
+
+    // Bits encendidos, por ejemplo para comprobar cuanto recorta la mascara
+    public int count() {
+        int total = 0;
+        for (long word : bits) total += Long.bitCount(word);
+        return total;
+    }
+
+    /**
+     * Si las mascaras se tocan con a en (ax, ay) y b en (bx, by). El desplazamiento
+     * entre ambas se redondea a unidades enteras; solo se recorren las filas comunes
+     * de las partes opacas y, en cada una, las palabras de a que caen dentro de b.
+     * Con mascaras de hasta 64 de ancho cada fila es un AND de dos longs.
+     */
+    public static boolean overlaps(CollisionMask a, float ax, float ay, CollisionMask b, float bx, float by) {
+        int dx = Math.round(bx - ax);
+        int dy = Math.round(by - ay);
+        int rowFrom = Math.max(a.bottom, b.bottom + dy), rowTo = Math.min(a.top, b.top + dy);
+        int colFrom = Math.max(a.left, b.left + dx), colTo = Math.min(a.right, b.right + dx);
+        if (rowFrom >= rowTo || colFrom >= colTo) return false;
+
+        if (a.words == 1 && b.words == 1) {
+            // |dx| < 64 porque las columnas se solapan
+            for (int r = rowFrom; r < rowTo; r++) {
+                long row = b.bits[r - dy];
+                if ((a.bits[r] & (dx >= 0 ? row << dx : row >>> -dx)) != 0) return true;
+            }
+            return false;
+        }
+
+        int wordFrom = colFrom >> 6, wordTo = (colTo - 1) >> 6;
+        for (int r = rowFrom; r < rowTo; r++) {
+            int row = r * a.words;
+            for (int w = wordFrom; w <= wordTo; w++) {
+                if ((a.bits[row + w] & b.window(r - dy, (w << 6) - dx)) != 0) return true;
+            }
+        }
+        return false;
+    }
+
+    // Las 64 columnas [start, start + 64) de una fila, con ceros fuera de la mascara
+    private long window(int r, int start) {
+        int row = r * words;
+        int w = start >> 6;                           // Division hacia abajo, tambien con negativos
+        int shift = start & 63;
+        long low = w >= 0 && w < words ? bits[row + w] : 0;
+        if (shift == 0) return low;
+        long high = w + 1 >= 0 && w + 1 < words ? bits[row + w + 1] : 0;
+        return low >>> shift | high << (64 - shift);
+    }
+}
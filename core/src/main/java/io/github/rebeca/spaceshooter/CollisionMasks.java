@@ -0,0 +1,62 @@
+package io.github.rebeca.spaceshooter;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/**
+ * Cache de mascaras de colision de un atlas, por region y tamaño de dibujo. Lee la
+ * descripcion del atlas sin crear texturas, asi funciona tambien sin OpenGL (por
+ * ejemplo al repetir grabaciones sin ventana). Las paginas se decodifican como
+ * {@link Pixmap} la primera vez que hacen falta y se liberan con {@link #dispose()};
+ * las mascaras ya creadas siguen valiendo despues.
+ */
+public class CollisionMasks implements Disposable {
+    private final TextureAtlas.TextureAtlasData data;
+    private final ObjectMap<TextureAtlas.TextureAtlasData.Page, Pixmap> pages = new ObjectMap<>();
+    private final ObjectMap<String, CollisionMask> masks = new ObjectMap<>();
+
+    public CollisionMasks(FileHandle atlasFile) {
+        data = new TextureAtlas.TextureAtlasData(atlasFile, atlasFile.parent(), false);
+    }
+
+    // Mascara de la region dibujada a width x height; se crea una sola vez
+    public CollisionMask get(String regionName, int width, int height) {
+        String key = regionName + '@' + width + 'x' + height;
+        CollisionMask mask = masks.get(key);
+        if (mask == null) {
+            TextureAtlas.TextureAtlasData.Region region = find(regionName);
+            // GameScreen dibuja la region empaquetada tal cual, sin giro ni recorte
+            if (region.rotate) throw new GdxRuntimeException("Rotated regions are not supported: " + regionName);
+            mask = CollisionMask.fromPixmap(page(region.page), region.left, region.top, region.width, region.height,
+                width, height);
+            masks.put(key, mask);
+        }
+        return mask;
+    }
+
+    private TextureAtlas.TextureAtlasData.Region find(String name) {
+        for (TextureAtlas.TextureAtlasData.Region region : data.getRegions()) {
+            if (region.name.equals(name)) return region;
+        }
+        throw new GdxRuntimeException("Region not found in atlas: " + name);
+    }
+
+    private Pixmap page(TextureAtlas.TextureAtlasData.Page page) {
+        Pixmap pixmap = pages.get(page);
+        if (pixmap == null) {
+            pixmap = new Pixmap(page.textureFile);
+            pages.put(page, pixmap);
+        }
+        return pixmap;
+    }
+
+    @Override
+    public void dispose() {
+        for (Pixmap pixmap : pages.values()) pixmap.dispose();
+        pages.clear();
+    }
+}
@@ -0,0 +1,45 @@
+package io.github.rebeca.spaceshooter;
+
+/** Pruebas de colision entre cajas alineadas a los ejes (AABB). */
+public final class Collisions {
+    private Collisions() {}
+
+    /**
+     * Colision continua (swept AABB): la caja A se desplaza (adx, ady) y la caja B
+     * se desplaza (bdx, bdy) durante el tick, partiendo de las posiciones dadas.
+     * Devuelve true si en algun momento del tick las cajas se solapan, con la misma
+     * semantica estricta que {@code Rectangle.overlaps}. Con desplazamiento cero
+     * equivale a la prueba estatica.
+     */
+    public static boolean sweptOverlaps(float ax, float ay, float aw, float ah, float adx, float ady,
+                                        float bx, float by, float bw, float bh, float bdx, float bdy) {
+        // Movimiento relativo: B queda quieta y A se mueve (dx, dy)
+        float dx = adx - bdx;
+        float dy = ady - bdy;
+
+        float entry = Float.NEGATIVE_INFINITY;
+        float exit = Float.POSITIVE_INFINITY;
+
+        // Eje X
+        if (dx == 0) {
+            if (!(ax < bx + bw && ax + aw > bx)) return false;
+        } else {
+            float t0 = (bx - (ax + aw)) / dx;
+            float t1 = (bx + bw - ax) / dx;
+            entry = Math.max(entry, Math.min(t0, t1));
+            exit = Math.min(exit, Math.max(t0, t1));
+        }
+
+        // Eje Y
+        if (dy == 0) {
+            if (!(ay < by + bh && ay + ah > by)) return false;
+        } else {
+            float t0 = (by - (ay + ah)) / dy;
+            float t1 = (by + bh - ay) / dy;
+            entry = Math.max(entry, Math.min(t0, t1));
+            exit = Math.min(exit, Math.max(t0, t1));
+        }
+
+        return entry < exit && entry < 1 && exit > 0;
+    }
+}
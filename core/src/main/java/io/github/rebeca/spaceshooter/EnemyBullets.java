@@ -0,0 +1,108 @@
+package io.github.rebeca.spaceshooter;
+
+import com.badlogic.gdx.math.MathUtils;
+
+/**
+ * Balas enemigas en arreglos paralelos reservados al crearlo, con un tope de
+ * {@link #CAPACITY}; si no caben mas, las nuevas se descartan. Todas tienen el mismo
+ * tamaño, asi que solo se guardan posicion y velocidad. Moverlas es un recorrido
+ * lineal por los arreglos, y la colision con el jugador otro recorrido sin
+ * saltos que compara cada bala con el rectangulo del jugador.
+ */
+public final class EnemyBullets {
+    public static final int CAPACITY = 32768;
+    public static final float SIZE = 12;                // Lado del sprite
+    private static final float CORE = 4;                // Semilado de la parte que hace daño
+    private static final float MARGIN = SIZE;           // Fuera de pantalla mas alla de esto se borran
+
+    public final float[] x = new float[CAPACITY];       // Esquina inferior izquierda
+    public final float[] y = new float[CAPACITY];
+    public final float[] prevX = new float[CAPACITY];
+    public final float[] prevY = new float[CAPACITY];
+    public final float[] velocityX = new float[CAPACITY];
+    public final float[] velocityY = new float[CAPACITY];
+    public int size;
+    private int dropped;
+
+    // Una bala desde el centro (cx, cy) con el angulo y la velocidad dados
+    public void add(float cx, float cy, float angle, float speed) {
+        if (size == CAPACITY) {
+            dropped++;
+            return;
+        }
+        int i = size++;
+        x[i] = cx - SIZE / 2;
+        y[i] = cy - SIZE / 2;
+        prevX[i] = x[i];
+        prevY[i] = y[i];
+        velocityX[i] = MathUtils.cos(angle) * speed;
+        velocityY[i] = MathUtils.sin(angle) * speed;
+    }
+
+    // Balas repartidas en circulo empezando en el angulo dado
+    public void ring(float cx, float cy, int count, float speed, float start) {
+        float step = MathUtils.PI2 / count;
+        for (int i = 0; i < count; i++) add(cx, cy, start + i * step, speed);
+    }
+
+    // Balas repartidas en un abanico de apertura total {@code spread} alrededor de {@code aim}
+    public void fan(float cx, float cy, int count, float speed, float aim, float spread) {
+        if (count == 1) {
+            add(cx, cy, aim, speed);
+            return;
+        }
+        float step = spread / (count - 1);
+        for (int i = 0; i < count; i++) add(cx, cy, aim - spread / 2 + i * step, speed);
+    }
+
+    // Mueve todas las balas y borra las que salieron (swap-remove, de atras hacia delante)
+    public void move(float delta) {
+        for (int i = size - 1; i >= 0; i--) {
+            float nx = x[i] + velocityX[i] * delta;
+            float ny = y[i] + velocityY[i] * delta;
+            if (nx < -MARGIN || nx > GameWorld.WIDTH + MARGIN || ny < -MARGIN || ny > GameWorld.HEIGHT + MARGIN) {
+                removeAt(i);
+                continue;
+            }
+            prevX[i] = x[i];
+            prevY[i] = y[i];
+            x[i] = nx;
+            y[i] = ny;
+        }
+    }
+
+    private void removeAt(int i) {
+        int last = --size;
+        if (i == last) return;
+        x[i] = x[last];
+        y[i] = y[last];
+        prevX[i] = prevX[last];
+        prevY[i] = prevY[last];
+        velocityX[i] = velocityX[last];
+        velocityY[i] = velocityY[last];
+    }
+
+    /**
+     * Indice de la primera bala cuyo nucleo toca el rectangulo dado, o -1. Solo hay
+     * una consulta por tick (el jugador), asi que repartir antes las balas en una
+     * rejilla costaria lo mismo que este recorrido y algo mas.
+     */
+    public int hit(float rx, float ry, float rw, float rh) {
+        for (int i = 0; i < size; i++) {
+            float cx = x[i] + SIZE / 2;
+            float cy = y[i] + SIZE / 2;
+            if (cx + CORE > rx && cx - CORE < rx + rw && cy + CORE > ry && cy - CORE < ry + rh) return i;
+        }
+        return -1;
+    }
+
+    public void clear() {
+        size = 0;
+        dropped = 0;
+    }
+
+    // Balas que no cupieron desde el ultimo clear
+    public int getDropped() {
+        return dropped;
+    }
+}
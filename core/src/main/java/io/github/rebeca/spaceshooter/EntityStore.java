@@ -0,0 +1,164 @@
+package io.github.rebeca.spaceshooter;
+
+import com.badlogic.gdx.math.Rectangle;
+
+/**
+ * Almacen de entidades en arreglos paralelos (struct-of-arrays).
+ * Cada entidad es un indice en {@code [0, size)}; no existe ningun objeto por entidad.
+ * Las eliminaciones mueven la ultima entidad al hueco (swap-remove), por lo que
+ * los recorridos que eliminan deben ir de atras hacia delante.
+ */
+public final class EntityStore {
+    public float[] x;
+    public float[] y;
+    public float[] prevY;                     // Posicion al inicio del ultimo movimiento
+    public float[] width;
+    public float[] height;
+    public float[] velocity;                  // Velocidad vertical (positiva hacia arriba)
+    public boolean[] removed;                 // Marcadas para eliminar en compact()
+    public int size;
+
+    public EntityStore(int capacity) {
+        x = new float[capacity];
+        y = new float[capacity];
+        prevY = new float[capacity];
+        width = new float[capacity];
+        height = new float[capacity];
+        velocity = new float[capacity];
+        removed = new boolean[capacity];
+    }
+
+    // Agrega una entidad y devuelve su indice
+    public int add(float x, float y, float width, float height, float velocity) {
+        if (size == this.x.length) grow(Math.max(8, size * 2));
+        int i = size++;
+        this.x[i] = x;
+        this.y[i] = y;
+        this.prevY[i] = y;
+        this.width[i] = width;
+        this.height[i] = height;
+        this.velocity[i] = velocity;
+        this.removed[i] = false;
+        return i;
+    }
+
+    // Elimina la entidad i moviendo la ultima a su lugar
+    public void removeAt(int i) {
+        int last = --size;
+        if (i != last) {
+            x[i] = x[last];
+            y[i] = y[last];
+            prevY[i] = prevY[last];
+            width[i] = width[last];
+            height[i] = height[last];
+            velocity[i] = velocity[last];
+            removed[i] = removed[last];
+        }
+    }
+
+    // Marca la entidad para eliminarla mas tarde sin alterar los indices actuales
+    public void markRemoved(int i) {
+        removed[i] = true;
+    }
+
+    // Elimina todas las entidades marcadas
+    public void compact() {
+        for (int i = size - 1; i >= 0; i--) {
+            if (removed[i]) removeAt(i);
+        }
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    // Mueve todas las entidades segun su velocidad
+    public void move(float delta) {
+        for (int i = 0; i < size; i++) {
+            prevY[i] = y[i];
+            y[i] += velocity[i] * delta;
+        }
+    }
+
+    // Misma semantica que Rectangle.overlaps
+    public boolean overlaps(int i, float rx, float ry, float rw, float rh) {
+        return x[i] < rx + rw && x[i] + width[i] > rx && y[i] < ry + rh && y[i] + height[i] > ry;
+    }
+
+    public boolean overlaps(int i, Rectangle r) {
+        return overlaps(i, r.x, r.y, r.width, r.height);
+    }
+
+    public boolean overlaps(int i, EntityStore other, int j) {
+        return overlaps(i, other.x[j], other.y[j], other.width[j], other.height[j]);
+    }
+
+    // Prueba continua sobre el tramo recorrido en el ultimo movimiento de ambas entidades
+    public boolean sweptOverlaps(int i, EntityStore other, int j) {
+        return Collisions.sweptOverlaps(
+            x[i], prevY[i], width[i], height[i], 0, y[i] - prevY[i],
+            other.x[j], other.prevY[j], other.width[j], other.height[j], 0, other.y[j] - other.prevY[j]);
+    }
+
+    // Prueba continua contra un rectangulo quieto
+    public boolean sweptOverlaps(int i, Rectangle r) {
+        return Collisions.sweptOverlaps(
+            x[i], prevY[i], width[i], height[i], 0, y[i] - prevY[i],
+            r.x, r.y, r.width, r.height, 0, 0);
+    }
+
+    /**
+     * Prueba continua contra un rectangulo quieto que, si las cajas se tocan, decide
+     * con las mascaras de pixeles de ambos. Las mascaras se prueban en varios puntos
+     * del tramo recorrido, separados como mucho {@link CollisionMask#STEP}. Sin
+     * mascaras (null) queda la prueba de cajas.
+     */
+    public boolean sweptOverlaps(int i, CollisionMask mask, Rectangle r, CollisionMask rMask) {
+        if (!sweptOverlaps(i, r)) return false;
+        if (mask == null || rMask == null) return true;
+        float dy = y[i] - prevY[i];
+        int steps = (int) Math.ceil(Math.abs(dy) / CollisionMask.STEP);
+        for (int s = 0; s <= steps; s++) {
+            float at = steps == 0 ? y[i] : prevY[i] + dy * s / steps;
+            if (CollisionMask.overlaps(mask, x[i], at, rMask, r.x, r.y)) return true;
+        }
+        return false;
+    }
+
+    // Limite inferior del tramo recorrido
+    public float sweptBottom(int i) {
+        return Math.min(y[i], prevY[i]);
+    }
+
+    // Altura del tramo recorrido (caja mas desplazamiento)
+    public float sweptHeight(int i) {
+        return height[i] + Math.abs(y[i] - prevY[i]);
+    }
+
+    // Centro de la caja, por ejemplo para colocar una explosion
+    public float centerX(int i) {
+        return x[i] + width[i] / 2;
+    }
+
+    public float centerY(int i) {
+        return y[i] + height[i] / 2;
+    }
+
+    private void grow(int capacity) {
+        x = copy(x, capacity);
+        y = copy(y, capacity);
+        prevY = copy(prevY, capacity);
+        width = copy(width, capacity);
+        height = copy(height, capacity);
+        velocity = copy(velocity, capacity);
+        boolean[] flags = new boolean[capacity];
+        System.arraycopy(removed, 0, flags, 0, removed.length);
+        removed = flags;
+    }
+
+    private static float[] copy(float[] src, int capacity) {
+        float[] dst = new float[capacity];
+        System.arraycopy(src, 0, dst, 0, src.length);
+        return dst;
+    }
+}
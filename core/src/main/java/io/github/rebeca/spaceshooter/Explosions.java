@@ -0,0 +1,182 @@
+package io.github.rebeca.spaceshooter;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.RandomXS128;
+
+/**
+ * Particulas de las explosiones en arreglos paralelos, como {@link EntityStore}.
+ * Todo se reserva al crearlo con un tope global de {@link #MAX_PARTICLES}: si una
+ * explosion no cabe entera se dibujan las particulas que quepan y el resto se
+ * cuenta como descartado. Las particulas usan una region del atlas de juego, asi
+ * que se dibujan en el mismo batch que los sprites sin cambiar de textura.
+ * <p>
+ * Es solo visual: tiene su propio generador aleatorio y no toca la simulacion,
+ * por lo que las grabaciones y sus checksums no cambian.
+ */
+public class Explosions {
+    public static final int MAX_PARTICLES = 4096;
+
+    // Forma de la explosion segun lo que choco
+    private static final class Style {
+        final int debris;                     // Particulas sueltas ademas del destello
+        final float minSpeed, maxSpeed;
+        final float minSize, maxSize;
+        final float minLife, maxLife;
+        final float flashSize;
+        final float r, g, b;
+        final boolean ring;                   // Repartir las direcciones en circulo
+
+        Style(int debris, float minSpeed, float maxSpeed, float minSize, float maxSize,
+              float minLife, float maxLife, float flashSize, float r, float g, float b, boolean ring) {
+            this.debris = debris;
+            this.minSpeed = minSpeed;
+            this.maxSpeed = maxSpeed;
+            this.minSize = minSize;
+            this.maxSize = maxSize;
+            this.minLife = minLife;
+            this.maxLife = maxLife;
+            this.flashSize = flashSize;
+            this.r = r;
+            this.g = g;
+            this.b = b;
+            this.ring = ring;
+        }
+    }
+
+    private static final float FLASH_LIFE = 0.2f;
+    private static final Style KILL = new Style(16, 60, 180, 6, 14, 0.35f, 0.6f, 48, 0.6f, 1f, 0.4f, false);
+    private static final Style METEOR = new Style(20, 80, 220, 8, 16, 0.5f, 0.8f, 64, 1f, 0.6f, 0.25f, false);
+    private static final Style PICKUP = new Style(12, 110, 110, 8, 8, 0.4f, 0.4f, 40, 0.5f, 0.9f, 1f, true);
+    private static final Style SPARK = new Style(5, 80, 160, 4, 8, 0.15f, 0.3f, 20, 1f, 0.85f, 0.4f, false);
+
+    private final TextureRegion region;
+    private final RandomXS128 random = new RandomXS128(7);
+
+    private final float[] x = new float[MAX_PARTICLES];
+    private final float[] y = new float[MAX_PARTICLES];
+    private final float[] prevX = new float[MAX_PARTICLES];
+    private final float[] prevY = new float[MAX_PARTICLES];
+    private final float[] velocityX = new float[MAX_PARTICLES];
+    private final float[] velocityY = new float[MAX_PARTICLES];
+    private final float[] size = new float[MAX_PARTICLES];
+    private final float[] life = new float[MAX_PARTICLES];     // Tiempo restante
+    private final float[] maxLife = new float[MAX_PARTICLES];
+    private final float[] red = new float[MAX_PARTICLES];
+    private final float[] green = new float[MAX_PARTICLES];
+    private final float[] blue = new float[MAX_PARTICLES];
+    private int count;
+    private int dropped;                      // Particulas que no cupieron desde el ultimo clear
+
+    public Explosions(TextureRegion region) {
+        this.region = region;
+    }
+
+    // Lanza la explosion que corresponde a lo que choco, centrada en (cx, cy)
+    public void explode(GameWorld.EntityKind kind, float cx, float cy) {
+        Style style = kind == GameWorld.EntityKind.OBSTACLE ? METEOR
+            : kind == GameWorld.EntityKind.POWERUP ? PICKUP
+            : kind == GameWorld.EntityKind.BOSS ? SPARK : KILL;
+
+        add(cx, cy, 0, 0, style.flashSize, FLASH_LIFE, style.r, style.g, style.b);
+        float start = random.nextFloat() * MathUtils.PI2;
+        for (int i = 0; i < style.debris; i++) {
+            float angle = style.ring
+                ? start + i * MathUtils.PI2 / style.debris
+                : random.nextFloat() * MathUtils.PI2;
+            float speed = MathUtils.lerp(style.minSpeed, style.maxSpeed, random.nextFloat());
+            add(cx, cy, MathUtils.cos(angle) * speed, MathUtils.sin(angle) * speed,
+                MathUtils.lerp(style.minSize, style.maxSize, random.nextFloat()),
+                MathUtils.lerp(style.minLife, style.maxLife, random.nextFloat()),
+                style.r, style.g, style.b);
+        }
+    }
+
+    private void add(float px, float py, float vx, float vy, float s, float l, float r, float g, float b) {
+        if (count == MAX_PARTICLES) {
+            dropped++;
+            return;
+        }
+        int i = count++;
+        x[i] = px;
+        y[i] = py;
+        prevX[i] = px;
+        prevY[i] = py;
+        velocityX[i] = vx;
+        velocityY[i] = vy;
+        size[i] = s;
+        life[i] = l;
+        maxLife[i] = l;
+        red[i] = r;
+        green[i] = g;
+        blue[i] = b;
+    }
+
+    // Avanza las particulas y quita las que se apagaron (swap-remove, de atras hacia delante)
+    public void update(float delta) {
+        float drag = Math.max(0, 1 - 2.5f * delta);  // Frenan al alejarse del centro
+        for (int i = count - 1; i >= 0; i--) {
+            life[i] -= delta;
+            if (life[i] <= 0) {
+                removeAt(i);
+                continue;
+            }
+            prevX[i] = x[i];
+            prevY[i] = y[i];
+            x[i] += velocityX[i] * delta;
+            y[i] += velocityY[i] * delta;
+            velocityX[i] *= drag;
+            velocityY[i] *= drag;
+        }
+    }
+
+    private void removeAt(int i) {
+        int last = --count;
+        if (i == last) return;
+        x[i] = x[last];
+        y[i] = y[last];
+        prevX[i] = prevX[last];
+        prevY[i] = prevY[last];
+        velocityX[i] = velocityX[last];
+        velocityY[i] = velocityY[last];
+        size[i] = size[last];
+        life[i] = life[last];
+        maxLife[i] = maxLife[last];
+        red[i] = red[last];
+        green[i] = green[last];
+        blue[i] = blue[last];
+    }
+
+    /**
+     * Dibuja las particulas dentro de un batch ya iniciado, interpolando entre los
+     * dos ultimos ticks. Se desvanecen y encogen al final de su vida. El batch debe
+     * tener sitio para {@link #MAX_PARTICLES} sprites ademas del resto del frame
+     * para que no haga llamadas de dibujo extra.
+     */
+    public void draw(Batch batch, float alpha) {
+        for (int i = 0; i < count; i++) {
+            float t = life[i] / maxLife[i];
+            float s = size[i] * (0.5f + 0.5f * t);
+            float px = prevX[i] + (x[i] - prevX[i]) * alpha;
+            float py = prevY[i] + (y[i] - prevY[i]) * alpha;
+            batch.setColor(red[i], green[i], blue[i], t);
+            batch.draw(region, px - s / 2, py - s / 2, s, s);
+        }
+        batch.setPackedColor(Color.WHITE_FLOAT_BITS);
+    }
+
+    public void clear() {
+        count = 0;
+        dropped = 0;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public int getDropped() {
+        return dropped;
+    }
+}
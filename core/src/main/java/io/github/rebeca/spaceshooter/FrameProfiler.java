@@ -0,0 +1,163 @@
+package io.github.rebeca.spaceshooter;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.BitmapFontCache;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/**
+ * Perfilador por frame de la pantalla de juego. Mide el tiempo de cada fase del
+ * tick de {@link GameWorld}, el del dibujado y el del frame completo, junto con
+ * llamadas de dibujo, cambios de textura, renderCalls del SpriteBatch, entidades y
+ * heap. Guarda las ultimas {@link #WINDOW} muestras de cada medida para dar
+ * minimo, media y p99, que se pueden consultar desde codigo o ver en pantalla.
+ * <p>
+ * Los contadores de GL salen de {@link GLProfiler} y solo existen con un contexto
+ * GL real; en el backend headless valen 0 y el resto de medidas funciona igual.
+ */
+public class FrameProfiler implements GameWorld.PhaseListener {
+    public static final int WINDOW = 120;              // Frames en la ventana (2 s a 60 fps)
+    private static final int REFRESH_FRAMES = 30;      // Cada cuanto se reescribe el overlay
+    private static final float OVERLAY_SCALE = 0.3f;
+
+    /** Contadores que se toman una vez por frame. */
+    public enum Counter { DRAW_CALLS, TEXTURE_BINDINGS, RENDER_CALLS, ENTITIES, HEAP_BYTES }
+
+    private static final GameWorld.Phase[] PHASES = GameWorld.Phase.values();
+    private static final Counter[] COUNTERS = Counter.values();
+
+    private final RollingStats[] phases = new RollingStats[PHASES.length];
+    private final long[] phaseStart = new long[PHASES.length];
+    private final long[] phaseTotal = new long[PHASES.length];  // Suma de los ticks del frame
+    private final RollingStats[] counters = new RollingStats[COUNTERS.length];
+    private final RollingStats draw = new RollingStats(WINDOW);
+    private final RollingStats frame = new RollingStats(WINDOW);
+    private long frameStart;
+    private long drawStart;
+
+    private boolean enabled;
+    private GLProfiler glProfiler;            // Null sin contexto GL
+
+    // Overlay
+    private BitmapFontCache overlay;
+    private final StringBuilder text = new StringBuilder(512);
+    private int framesSinceRefresh = REFRESH_FRAMES;
+
+    public FrameProfiler() {
+        for (int i = 0; i < phases.length; i++) phases[i] = new RollingStats(WINDOW);
+        for (int i = 0; i < counters.length; i++) counters[i] = new RollingStats(WINDOW);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // Al activarlo se empieza con la ventana vacia
+    public void setEnabled(boolean enabled) {
+        if (this.enabled == enabled) return;
+        this.enabled = enabled;
+        if (enabled) {
+            clear();
+            if (glProfiler == null && Gdx.graphics != null && Gdx.graphics.getGL20() != null) {
+                glProfiler = new GLProfiler(Gdx.graphics);
+            }
+            if (glProfiler != null) glProfiler.enable();
+        } else if (glProfiler != null) {
+            glProfiler.disable();
+        }
+    }
+
+    public void clear() {
+        for (RollingStats stats : phases) stats.clear();
+        for (RollingStats stats : counters) stats.clear();
+        draw.clear();
+        frame.clear();
+        framesSinceRefresh = REFRESH_FRAMES;
+    }
+
+    public void beginFrame() {
+        frameStart = TimeUtils.nanoTime();
+        for (int i = 0; i < phaseTotal.length; i++) phaseTotal[i] = 0;
+        if (glProfiler != null) glProfiler.reset();
+    }
+
+    @Override
+    public void beginPhase(GameWorld.Phase phase) {
+        phaseStart[phase.ordinal()] = TimeUtils.nanoTime();
+    }
+
+    @Override
+    public void endPhase(GameWorld.Phase phase) {
+        int i = phase.ordinal();
+        phaseTotal[i] += TimeUtils.nanoTime() - phaseStart[i];
+    }
+
+    public void beginDraw() {
+        drawStart = TimeUtils.nanoTime();
+    }
+
+    public void endDraw() {
+        draw.add(TimeUtils.nanoTime() - drawStart);
+    }
+
+    // Cierra el frame y pasa todas las medidas a sus ventanas
+    public void endFrame(int renderCalls, int entities) {
+        for (int i = 0; i < phases.length; i++) phases[i].add(phaseTotal[i]);
+        counters[Counter.DRAW_CALLS.ordinal()].add(glProfiler != null ? glProfiler.getDrawCalls() : 0);
+        counters[Counter.TEXTURE_BINDINGS.ordinal()].add(glProfiler != null ? glProfiler.getTextureBindings() : 0);
+        counters[Counter.RENDER_CALLS.ordinal()].add(renderCalls);
+        counters[Counter.ENTITIES.ordinal()].add(entities);
+        counters[Counter.HEAP_BYTES.ordinal()].add(Gdx.app != null ? Gdx.app.getJavaHeap() : 0);
+        frame.add(TimeUtils.nanoTime() - frameStart);
+        framesSinceRefresh++;
+    }
+
+    // Tiempos en nanosegundos; un frame con varios ticks suma todos
+    public RollingStats getPhase(GameWorld.Phase phase) { return phases[phase.ordinal()]; }
+    public RollingStats getDraw() { return draw; }
+    public RollingStats getFrame() { return frame; }
+    public RollingStats getCounter(Counter counter) { return counters[counter.ordinal()]; }
+
+    /**
+     * Dibuja las estadisticas con la fuente dada dentro de un batch ya iniciado.
+     * El texto solo se vuelve a maquetar cada {@link #REFRESH_FRAMES} frames.
+     */
+    public void drawOverlay(Batch batch, BitmapFont font, float x, float y) {
+        if (overlay == null || overlay.getFont() != font) overlay = new BitmapFontCache(font);
+        if (framesSinceRefresh >= REFRESH_FRAMES) {
+            framesSinceRefresh = 0;
+            buildText();
+            font.getData().setScale(OVERLAY_SCALE);
+            overlay.setText(text, x, y);
+            font.getData().setScale(1f);     // La fuente es compartida: dejarla como estaba
+        }
+        overlay.draw(batch);
+    }
+
+    private void buildText() {
+        text.setLength(0);
+        text.append("MIN / AVG / P99\n");
+        timeLine("FRAME", frame);
+        timeLine("DRAW", draw);
+        for (GameWorld.Phase phase : PHASES) timeLine(phase.name(), phases[phase.ordinal()]);
+        for (Counter counter : COUNTERS) {
+            RollingStats stats = counters[counter.ordinal()];
+            long divisor = counter == Counter.HEAP_BYTES ? 1024 * 1024 : 1;
+            text.append(counter.name()).append(' ')
+                .append(stats.min() / divisor).append(" / ")
+                .append((long) (stats.average() / divisor)).append(" / ")
+                .append(stats.p99() / divisor)
+                .append(counter == Counter.HEAP_BYTES ? " MB\n" : "\n");
+        }
+    }
+
+    // Tiempos en microsegundos
+    private void timeLine(String name, RollingStats stats) {
+        text.append(name).append(' ')
+            .append(stats.min() / 1000).append(" / ")
+            .append((long) (stats.average() / 1000)).append(" / ")
+            .append(stats.p99() / 1000).append(" us\n");
+    }
+}
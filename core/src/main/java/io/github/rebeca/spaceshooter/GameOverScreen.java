@@ -20,9 +20,7 @@ public class GameOverScreen implements Screen {
     private final Game game; // Referencia al juego principal
     private Stage stage; // Escenario donde se colocan los elementos
     private Texture backgroundTex; // Textura de fondo
-    private BitmapFont titleFont;  // Fuente para el titulo
-    private BitmapFont statsFont;  // Fuente para estadisticas
-    private BitmapFont buttonFont; // Fuente para botones
+    private BitmapFont font;       // Fuente compartida (titulo, estadisticas y botones)
 
     // Estadisticas del juego
     private final boolean isVictory;      // Indica si fue una victoria
@@ -56,18 +54,9 @@ public class GameOverScreen implements Screen {
             main.gameOverMusic.play();
         }
 
-        // Carga las fuentes de texto
-        titleFont = new BitmapFont(Gdx.files.internal("fonts/audiowide.fnt"));
-        titleFont.getData().setScale(1f);
-
-        statsFont = new BitmapFont(Gdx.files.internal("fonts/audiowide.fnt"));
-        statsFont.getData().setScale(0.6f);
-
-        buttonFont = new BitmapFont(Gdx.files.internal("fonts/audiowide.fnt"));
-        buttonFont.getData().setScale(0.8f);
-
-        // Carga la imagen de fondo
-        backgroundTex = new Texture("ui/MainMenu/background.png");
+        // Pide la fuente y la imagen de fondo compartidas
+        font = main.assets.borrowFont();
+        backgroundTex = main.assets.borrowTexture(Assets.BACKGROUND);
 
         // Agrega el fondo al escenario
         Image background = new Image(backgroundTex);
@@ -79,7 +68,7 @@ public class GameOverScreen implements Screen {
         Color titleColor = isVictory ? Color.GOLD : Color.RED;
 
         // Muestra el titulo
-        Label titleLabel = new Label(titleText, new Label.LabelStyle(titleFont, titleColor));
+        Label titleLabel = new Label(titleText, new Label.LabelStyle(font, titleColor));
         titleLabel.setAlignment(Align.center);
         titleLabel.setPosition(
             Gdx.graphics.getWidth()/2f - titleLabel.getWidth()/2,
@@ -89,7 +78,7 @@ public class GameOverScreen implements Screen {
 
         // Posicion inicial para las estadisticas
         float yPos = Gdx.graphics.getHeight() * 0.55f;
-        float yStep = 40f;
+        float yStep = 34f;
 
         // Muestra las estadisticas del jugador
         addStatLabel("Level Reached: " + levelNumber, yPos);
@@ -102,10 +91,15 @@ public class GameOverScreen implements Screen {
         yPos -= yStep;
 
         addStatLabel("Enemies: " + enemiesDefeated, yPos);
+        yPos -= yStep;
+
+        addStatLabel(scoreText(main.stats.getSummary()), yPos);
         yPos -= yStep * 1.5f;
 
         // Boton para reintentar el juego
-        Label retryLabel = new Label("RETRY", new Label.LabelStyle(buttonFont, Color.WHITE));
+        Label retryLabel = new Label("RETRY", new Label.LabelStyle(font, Color.WHITE));
+        retryLabel.setFontScale(0.8f);
+        retryLabel.pack();
         retryLabel.setAlignment(Align.center);
         retryLabel.setPosition(
             Gdx.graphics.getWidth()/2f - retryLabel.getWidth()/2,
@@ -114,7 +108,7 @@ public class GameOverScreen implements Screen {
         retryLabel.addListener(new ClickListener() {
             @Override
             public void clicked(InputEvent event, float x, float y) {
-                game.setScreen(new GameScreen(game, 0)); // Reinicia el juego en el nivel 0
+                ((Main) game).showGame(0); // Reinicia el juego en el nivel 0
             }
 
             @Override
@@ -130,7 +124,9 @@ public class GameOverScreen implements Screen {
         stage.addActor(retryLabel);
 
         // Boton para volver al menu principal
-        Label menuLabel = new Label("MAIN MENU", new Label.LabelStyle(buttonFont, Color.WHITE));
+        Label menuLabel = new Label("MAIN MENU", new Label.LabelStyle(font, Color.WHITE));
+        menuLabel.setFontScale(0.8f);
+        menuLabel.pack();
         menuLabel.setAlignment(Align.center);
         menuLabel.setPosition(
             Gdx.graphics.getWidth()/2f - menuLabel.getWidth()/2,
@@ -155,9 +151,18 @@ public class GameOverScreen implements Screen {
         stage.addActor(menuLabel);
     }
 
+    // Puntos de esta partida (la ultima del diario) y el record
+    static String scoreText(StatsSummary summary) {
+        RunStats last = summary.getLast();
+        RunStats best = summary.getBest();
+        return "Score: " + (last != null ? last.score : 0) + "   Best: " + (best != null ? best.score : 0);
+    }
+
     // Metodo auxiliar para agregar etiquetas de estadisticas
     private void addStatLabel(String text, float y) {
-        Label label = new Label(text, new Label.LabelStyle(statsFont, Color.WHITE));
+        Label label = new Label(text, new Label.LabelStyle(font, Color.WHITE));
+        label.setFontScale(0.6f);
+        label.pack();
         label.setAlignment(Align.center);
         label.setPosition(
             Gdx.graphics.getWidth()/2f - label.getWidth()/2,
@@ -180,10 +185,9 @@ public class GameOverScreen implements Screen {
     public void dispose() {
         // Libera los recursos usados
         stage.dispose();
-        backgroundTex.dispose();
-        titleFont.dispose();
-        statsFont.dispose();
-        buttonFont.dispose();
+        Assets assets = ((Main) game).assets;
+        assets.release(Assets.BACKGROUND);
+        assets.release(Assets.FONT);
     }
 
     // Otros metodos requeridos por la interfaz Screen
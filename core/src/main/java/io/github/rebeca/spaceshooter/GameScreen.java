@@ -4,478 +4,472 @@ import com.badlogic.gdx.*;
 import com.badlogic.gdx.graphics.*;
 import com.badlogic.gdx.graphics.g2d.*;
 import com.badlogic.gdx.math.*;
-import com.badlogic.gdx.utils.Array;
-import java.util.Iterator;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
-import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 
-public class GameScreen implements Screen {
+/**
+ * Pantalla de juego. La logica vive en {@link GameWorld}; esta clase solo lee la
+ * entrada, avanza la simulacion a paso fijo, dibuja su estado y cambia de pantalla
+ * cuando la partida termina.
+ */
+public class GameScreen implements Screen, GameWorld.Listener, GameWorld.PhaseListener {
     private final Game game;
     private final OrthographicCamera camera;
     private final SpriteBatch batch;
 
-    // Jugador
-    private final Texture playerTexture;
-    private final Rectangle player;
-    private static final float PLAYER_SPEED = 300;
-
-    // Lasers disparados por el jugador
-    private final Texture laserTexture;
-    private final Array<Rectangle> lasers;
-    private static final float LASER_SPEED = 500;
-    private float shootCooldown = 0;         // Tiempo entre disparos
-    private static final float SHOOT_DELAY = 0.2f;
-
-    // Enemigos que aparecen en pantalla
-    private final Texture enemyTexture;
-    private final Array<Rectangle> enemies;
-    private float enemySpawnTimer = 0;       // Temporizador para generar enemigos
-
-    // Fondo del juego
+    // Simulacion
+    private GameWorld world;
+    private final InputState input = new InputState();
+
+    // Atlas con todos los sprites del juego y la pagina de la fuente, para
+    // dibujar el campo de juego sin cambiar de textura
+    private final TextureAtlas atlas;
+    private final TextureRegion playerTexture;
+    private final TextureRegion laserTexture;
+    private final TextureRegion enemyTexture;
+    private final TextureRegion invincibilityTexture;
+    private final TextureRegion shieldTexture;     // Imagen del escudo para invulnerabilidad visual
+    private final TextureRegion obstacleTexture;
+    private final TextureRegion bossTexture;
+    private final TextureRegion bulletTexture;
+    private static final Color BULLET_TINT = new Color(1f, 0.35f, 0.6f, 1f);
+    private final Explosions explosions;      // Particulas de impactos, con la region laserGreenExplosion
+    private int renderCalls = 0;              // Llamadas de dibujo del SpriteBatch en el ultimo frame
+
+    // Fondo del juego: un solo quad con las coordenadas de textura desplazadas
     private final Texture background;
+    private final boolean backgroundRepeats;  // La GPU repite la textura (potencia de dos o GL ES 3)
     private float backgroundOffset = 0;      // Para desplazar el fondo y simular movimiento
+    private float prevBackgroundOffset = 0;
+
+    // Estrellas con paralaje, en una malla que se crea una vez y se mueve por shader
+    private static final int STAR_COUNT = 3000;
+    private final Starfield starfield;
 
-    // Power-ups de invulnerabilidad
-    private final Texture invincibilityTexture;
-    private final Array<Rectangle> invincibilityPowerups;
-    private float powerupSpawnTimer = 0;
-    private static final float POWERUP_SPAWN_INTERVAL = 15f;
-    private float invincibilityTimer = 0;
-    private boolean isInvincible = false;    // Estado de invulnerabilidad
-    private float blinkTimer = 0;             // Para efecto parpadeo durante invulnerabilidad
-    private static final float BLINK_INTERVAL = 0.1f;
-    private static final float INVINCIBILITY_DURATION = 5f;
-    private final Texture shieldTexture;     // Imagen del escudo para invulnerabilidad visual
-
-    // Obstaculos que caen y el jugador debe evitar
-    private final Texture obstacleTexture;
-    private final Array<Rectangle> obstacles;
-    private float obstacleSpawnTimer = 0;
-    private int obstaclesPassed = 0;          // Contador de obstaculos que se han pasado sin colision
-
-    // Fuente para texto en pantalla
+    // Fuente para texto en pantalla y HUD con el texto ya maquetado
     private final BitmapFont audiowideFont;
+    private final Hud hud;
 
-    // Estadisticas del juego
-    private float timeElapsed = 0;            // Tiempo transcurrido en la partida
-    private int enemiesDefeated = 0;          // Enemigos derrotados
-    private boolean isVictory = false;        // Estado de victoria
-
-    // Sistema de niveles
-    private static class Level {
-        int victoryObstacles;                 // Obstaculos para victoria
-        int victoryEnemies;                   // Enemigos para victoria
-        float victoryTime;                    // Tiempo para victoria
-        float enemySpawnInterval;             // Intervalo para generar enemigos
-        float obstacleSpawnInterval;          // Intervalo para generar obstaculos
-        float enemySpeed;                     // Velocidad de los enemigos
-        float obstacleSpeed;                  // Velocidad de los obstaculos
-        String name;                         // Nombre del nivel
-
-        public Level(int victoryObstacles, int victoryEnemies, float victoryTime,
-                     float enemySpawnInterval, float obstacleSpawnInterval,
-                     float enemySpeed, float obstacleSpeed, String name) {
-            this.victoryObstacles = victoryObstacles;
-            this.victoryEnemies = victoryEnemies;
-            this.victoryTime = victoryTime;
-            this.enemySpawnInterval = enemySpawnInterval;
-            this.obstacleSpawnInterval = obstacleSpawnInterval;
-            this.enemySpeed = enemySpeed;
-            this.obstacleSpeed = obstacleSpeed;
-            this.name = name;
-        }
-    }
+    // Perfilador por fases; F3 muestra u oculta el overlay
+    private final FrameProfiler profiler = new FrameProfiler();
+
+    // Sitio para todas las particulas mas entidades y HUD sin vaciar el batch a mitad de frame
+    private static final int BATCH_SIZE = 8191;
 
-    private final Level[] levels;             // Arreglo con todos los niveles
-    private final int currentLevelIndex;      // Indice del nivel actual
-    private final Level currentLevel;         // Nivel actual
+    // Objetos reutilizados en cada frame para no generar basura
+    private final Vector3 touchPos = new Vector3();
+
+    // Simulacion a paso fijo, independiente de la frecuencia de pantalla
+    public static final float STEP = 1 / 60f;            // Duracion de un tick de simulacion
+    private static final int MAX_STEPS_PER_FRAME = 5;     // Limite de ticks para ponerse al dia
+    private float accumulator = 0;            // Tiempo pendiente de simular
+    private boolean finished = false;         // Ya se cambio de pantalla
+
+    // Repeticion de una grabacion: un tick por frame, sin leer la entrada real
+    private InputReplay replay;
+    private int replayMismatches;
+
+    // Modo de estres de balas enemigas
+    private BulletStress stress;
 
     public GameScreen(Game game, int levelIndex) {
+        this(game, new GameWorld(levelIndex));
+    }
+
+    // Usa un mundo ya preparado, por ejemplo durante la pantalla de transicion
+    public GameScreen(Game game, GameWorld world) {
         this.game = game;
+        Main main = (Main) game;
 
-        // Inicializamos los niveles
-        levels = new Level[]{
-            new Level(8, 8, 45f, 2.0f, 4f, 200f, 120f, "LEVEL 1 - TRAINING"),
-            new Level(15, 15, 70f, 1.5f, 3.5f, 300f, 180f, "LEVEL 2 - COMBAT"),
-            new Level(25, 25, 100f, 1.2f, 2.5f, 400f, 250f, "LEVEL 3 - BOSS")
-        };
+        // Configuracion de camara y batch para dibujar
+        camera = new OrthographicCamera();
+        camera.setToOrtho(false, GameWorld.WIDTH, GameWorld.HEIGHT);
+        batch = new SpriteBatch(BATCH_SIZE);
+
+        // Pedir texturas a la cache compartida (el atlas se genera con la tarea packTextures de Gradle)
+        atlas = main.assets.borrowAtlas(Assets.GAMEPLAY_ATLAS);
+        playerTexture = atlas.findRegion(GameWorld.PLAYER_REGION);
+        laserTexture = atlas.findRegion("laserGreen10");
+        enemyTexture = atlas.findRegion(GameWorld.ENEMY_REGION);
+        shieldTexture = atlas.findRegion("shield");
+        invincibilityTexture = atlas.findRegion("powerup");
+        obstacleTexture = atlas.findRegion(GameWorld.OBSTACLE_REGION);
+        bossTexture = atlas.findRegion("enemyBlack5");
+        bulletTexture = atlas.findRegion("laserGreenExplosion");
+        explosions = new Explosions(bulletTexture);
+        background = main.assets.borrowTexture(Assets.BACKGROUND);
+        // GL ES 2 y WebGL 1 no repiten texturas que no son potencia de dos
+        backgroundRepeats = Gdx.graphics.isGL30Available()
+            || (MathUtils.isPowerOfTwo(background.getWidth()) && MathUtils.isPowerOfTwo(background.getHeight()));
+        if (backgroundRepeats) {
+            background.setWrap(Texture.TextureWrap.ClampToEdge, Texture.TextureWrap.Repeat);
+        }
+        // La mitad de la altura del fondo: las estrellas vuelven a su sitio cuando el fondo da una vuelta
+        starfield = new Starfield(STAR_COUNT, GameWorld.WIDTH, background.getHeight() / 2f, 42);
+
+        // Fuente para texto, con su pagina dentro del atlas
+        audiowideFont = main.assets.borrowFont();
+        hud = new Hud(audiowideFont);
+
+        restart(world);
+    }
 
+    /**
+     * Reinicia la pantalla en el nivel indicado reutilizando el mundo, el batch y
+     * los recursos ya cargados. Main la usa para "reintentar" sin crear otra pantalla.
+     */
+    public void restart(int levelIndex) {
+        world.reset(levelIndex);
+        restart(world);
+    }
 
-        // Seleccionamos el nivel actual segun el indice recibido
-        this.currentLevelIndex = Math.min(levelIndex, levels.length - 1);
-        this.currentLevel = levels[currentLevelIndex];
+    // Reinicia la pantalla con un mundo ya preparado
+    public void restart(GameWorld world) {
+        this.world = world;
+        world.setListener(this);
+        updatePhaseListener();
+        world.setSystemRunner(((Main) game).systemRunner);
+        world.setMasks(((Main) game).masks);
+
+        // Cada partida nueva es una sesion de la grabacion
+        InputRecorder recorder = ((Main) game).recorder;
+        if (recorder != null && replay == null) recorder.beginSession(world);
+        hud.setTitle(world.getLevel().name.toUpperCase());
+        explosions.clear();
+        accumulator = 0;
+        finished = false;
+        backgroundOffset = 0;
+        prevBackgroundOffset = 0;
+    }
 
+    @Override
+    public void show() {
         // Musica
         Main main = (Main) game;
         main.stopAllMusic();                    // Parar todas las musicas
         if (!main.background.isPlaying()) {
             main.background.play();             // Reproducir musica de fondo si no esta sonando
         }
-
-        // Configuracion de camara y batch para dibujar
-        camera = new OrthographicCamera();
-        camera.setToOrtho(false, 800, 480);
-        batch = new SpriteBatch();
-
-        // Cargar texturas
-        playerTexture = new Texture("spaceships/player.png");
-        laserTexture = new Texture("lasers/laserGreen10.png");
-        enemyTexture = new Texture("spaceships/enemyBlack1.png");
-        background = new Texture("ui/MainMenu/background.png");
-        shieldTexture = new Texture("life/shield.png");
-        invincibilityTexture = new Texture("life/powerup.png");
-        obstacleTexture = new Texture("obstacle/meteor.png");
-
-        // Crear jugador y colecciones vacias
-        player = new Rectangle(400 - 32, 20, 64, 64);
-        lasers = new Array<>();
-        enemies = new Array<>();
-        invincibilityPowerups = new Array<>();
-        obstacles = new Array<>();
-
-        // Cargar fuente para texto
-        audiowideFont = new BitmapFont(Gdx.files.internal("fonts/audiowide.fnt"));
     }
 
-    @Override
-    public void render(float delta) {
-        Gdx.gl.glClearColor(0, 0, 0, 1);       // Limpiar pantalla a negro
-        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
-
-        update(delta);                         // Actualizar estado del juego
-        draw(); // Dibujar todo
+    /**
+     * Repite una grabacion desde el principio: cada sesion usa su nivel y su semilla,
+     * y se avanza un tick por frame para ir tan rapido como se pueda dibujar. Al
+     * terminar se informa del resultado y se cierra la aplicacion.
+     */
+    public void startReplay(InputReplay replay) {
+        this.replay = replay;
+        replayMismatches = 0;
+        replay.rewind();
+        if (!nextReplaySession()) Gdx.app.exit();
     }
 
-    private void update(float delta) {
-        if (isVictory) return;                 // Si ya ganamos, no actualizar nada
-
-        timeElapsed += delta;                  // Incrementar tiempo jugado
-        checkVictory();                       // Verificar condiciones de victoria
-        handleInput(delta);                    // Procesar entrada del jugador
-        updateLasers(delta);                   // Mover lasers
-        updateEnemies(delta);                  // Mover y generar enemigos
-        updatePowerups(delta);                 // Mover y generar power-ups
-        updateBackground(delta);               // Mover fondo para efecto scroll
-        updateInvincibility(delta);            // Actualizar estado invulnerabilidad
-        checkCollisions();                     // Detectar colisiones
-        updateObstacles(delta);                // Mover y generar obstaculos
-
-        // Disminuir tiempo de recarga para disparar
-        if (shootCooldown > 0) {
-            shootCooldown -= delta;
-        }
+    private boolean nextReplaySession() {
+        if (!replay.nextSession()) return false;
+        world.reset(replay.getLevelIndex(), replay.getSeed());
+        restart(world);
+        return true;
     }
 
-    private void handleInput(float delta) {
-        // Control por teclado
-        if (Gdx.input.isKeyPressed(Input.Keys.LEFT)) {
-            player.x -= PLAYER_SPEED * delta;
+    private void stepReplay() {
+        if (replay.next(input)) {
+            world.step(input, replay.getStep());
+            updateBackground(replay.getStep());
+            explosions.update(replay.getStep());
+            return;
         }
-        if (Gdx.input.isKeyPressed(Input.Keys.RIGHT)) {
-            player.x += PLAYER_SPEED * delta;
+        // Fin de la sesion: comprobar que el estado final es el grabado
+        if (replay.hasExpectedChecksum() && world.checksum() != replay.getExpectedChecksum()) {
+            replayMismatches++;
+            Gdx.app.error("Replay", "Level " + (replay.getLevelIndex() + 1) + " diverged after " + replay.getTicks() + " ticks");
         }
-        if (Gdx.input.isKeyPressed(Input.Keys.SPACE)) {
-            shoot();
-        }
-
-        // Control tactil
-        for (int i = 0; i < 5; i++) {
-            if (Gdx.input.isTouched(i)) {
-                Vector3 touchPos = new Vector3(Gdx.input.getX(i), Gdx.input.getY(i), 0);
-                camera.unproject(touchPos);
-
-                // Mover jugador
-                if (!player.contains(touchPos.x, touchPos.y)) {
-                    player.x = touchPos.x - player.width / 2;
-                    player.x = MathUtils.clamp(player.x, 0, 800 - player.width);
-                } else {
-                    // Si se toca el jugador, disparar
-                    shoot();
-                }
-            }
+        if (!nextReplaySession()) {
+            Gdx.app.log("Replay", "Finished with " + replayMismatches + " mismatches");
+            replay = null;
+            finished = true;                  // No pasar a otra pantalla mientras se cierra
+            Gdx.app.exit();
         }
+    }
 
-        // Limitar movimiento para que no salga de la pantalla
-        player.x = MathUtils.clamp(player.x, 0, 800 - player.width);
+    /**
+     * Llena la pantalla de balas enemigas en un mundo sin fin, sube la cantidad
+     * mientras el frame quepa en 60 fps, informa del maximo y cierra la aplicacion.
+     */
+    public void startBulletStress() {
+        stress = new BulletStress();
+        world.setEndless(true);
     }
 
-    private void shoot() {
-        // Disparar solo si no estamos en periodo de recarga
-        if (shootCooldown <= 0) {
-            Rectangle laser = new Rectangle(
-                (float) (player.x + player.width / 1.5 - (double) 10 / 7),
-                player.y + player.height,
-                10,
-                25
-            );
-            lasers.add(laser);
-            shootCooldown = SHOOT_DELAY;        // Reiniciar tiempo de recarga
-            ((Main) game).laserSound.play();    // Sonido de disparo
+    private void updateBulletStress() {
+        stress.frame(world);
+        if (stress.isDone() && !finished) {
+            Gdx.app.log("BulletStress", stress.getReport());
+            finished = true;                  // No pasar a otra pantalla mientras se cierra
+            Gdx.app.exit();
         }
     }
 
-    private void updateLasers(float delta) {
-        // Mover cada laser hacia arriba, eliminar si sale de pantalla
-        for (Iterator<Rectangle> iter = lasers.iterator(); iter.hasNext(); ) {
-            Rectangle laser = iter.next();
-            laser.y += LASER_SPEED * delta;
-            if (laser.y > 480) iter.remove();
-        }
+    // Activa o desactiva la medicion por fases y el overlay
+    public void setProfiling(boolean enabled) {
+        profiler.setEnabled(enabled);
+        updatePhaseListener();
     }
 
-    private void updateEnemies(float delta) {
-        enemySpawnTimer += delta;
-        // Generar enemigos segun intervalo definido en nivel
-        if (enemySpawnTimer > currentLevel.enemySpawnInterval) {
-            Rectangle enemy = new Rectangle(
-                MathUtils.random(0, 800 - 64),
-                480,
-                64, 64
-            );
-            enemies.add(enemy);
-            enemySpawnTimer = 0;
-        }
+    // Las fases solo se miden si hay alguien escuchando
+    private void updatePhaseListener() {
+        boolean listening = profiler.isEnabled() || ((Main) game).telemetry != Telemetry.NONE;
+        world.setPhaseListener(listening ? this : null);
+    }
 
-        // Mover enemigos hacia abajo y eliminar si salen de pantalla
-        for (Iterator<Rectangle> iter = enemies.iterator(); iter.hasNext(); ) {
-            Rectangle enemy = iter.next();
-            enemy.y -= currentLevel.enemySpeed * delta;
-            if (enemy.y + enemy.height < 0) iter.remove();
-        }
+    public FrameProfiler getProfiler() {
+        return profiler;
     }
 
-    private void updateObstacles(float delta) {
-        obstacleSpawnTimer += delta;
-
-        // Generar obstaculos segun intervalo definido
-        if (obstacleSpawnTimer > currentLevel.obstacleSpawnInterval) {
-            Rectangle obstacle = new Rectangle(
-                MathUtils.random(0, 800 - 48),
-                480,
-                48, 48
-            );
-            obstacles.add(obstacle);
-            obstacleSpawnTimer = 0;
+    @Override
+    public void render(float delta) {
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F3)) {
+            setProfiling(!profiler.isEnabled());
         }
+        boolean profiling = profiler.isEnabled();
+        if (profiling) profiler.beginFrame();
+        if (stress != null) updateBulletStress();
 
-        // Mover obstaculos hacia abajo
-        for (Iterator<Rectangle> iter = obstacles.iterator(); iter.hasNext(); ) {
-            Rectangle obstacle = iter.next();
-            obstacle.y -= currentLevel.obstacleSpeed * delta;
+        Gdx.gl.glClearColor(0, 0, 0, 1);       // Limpiar pantalla a negro
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
 
-            // Contar obstaculos que pasaron sin colisionar y eliminar
-            if (obstacle.y + obstacle.height < 0) {
-                obstaclesPassed++;
-                iter.remove();
+        // Simular en ticks fijos el tiempo acumulado, con un limite para no
+        // entrar en espiral si un frame tarda demasiado
+        if (replay != null) {
+            stepReplay();                      // Repeticion: un tick por frame
+            if (profiling) profiler.beginDraw();
+            draw(1);
+        } else {
+            accumulator += delta;
+            int steps = 0;
+            while (accumulator >= STEP && steps < MAX_STEPS_PER_FRAME) {
+                readInput();                       // Procesar entrada del jugador
+                world.step(input, STEP);           // Actualizar estado del juego
+                updateBackground(STEP);            // Mover fondo para efecto scroll
+                explosions.update(STEP);           // Mover y apagar particulas
+                accumulator -= STEP;
+                steps++;
+            }
+            if (steps == MAX_STEPS_PER_FRAME && accumulator >= STEP) {
+                accumulator = 0;                   // Descartar el tiempo que no se pudo recuperar
             }
-        }
-    }
-
-    private void updatePowerups(float delta) {
-        powerupSpawnTimer += delta;
 
-        // Generar power-up de invulnerabilidad periodicamente
-        if (powerupSpawnTimer > POWERUP_SPAWN_INTERVAL) {
-            spawnInvincibilityPowerup();
-            powerupSpawnTimer = 0;
+            if (profiling) profiler.beginDraw();
+            draw(accumulator / STEP);              // Dibujar interpolando entre los dos ultimos ticks
         }
-
-        // Mover power-ups hacia abajo y eliminar si salen de pantalla
-        for (Iterator<Rectangle> iter = invincibilityPowerups.iterator(); iter.hasNext(); ) {
-            Rectangle powerup = iter.next();
-            powerup.y -= currentLevel.enemySpeed * 0.7f * delta;
-            if (powerup.y + powerup.height < 0) iter.remove();
+        if (profiling) {
+            profiler.endDraw();
+            profiler.endFrame(renderCalls, world.getEntityCount());
         }
+        if (replay == null) checkOutcome();
     }
 
-    private void spawnInvincibilityPowerup() {
-        // Crear un power-up en posicion aleatoria arriba de la pantalla
-        Rectangle powerup = new Rectangle(
-            MathUtils.random(0, 800 - 50),
-            480,
-            50, 50
-        );
-        invincibilityPowerups.add(powerup);
-    }
-
-    private void updateInvincibility(float delta) {
-        if (isInvincible) {
-            invincibilityTimer -= delta;    // Reducir tiempo de invulnerabilidad
-            blinkTimer += delta;            // Control del parpadeo
-
-            if (blinkTimer > BLINK_INTERVAL) {
-                blinkTimer = 0;
-            }
+    // Copia el estado de teclado y pantalla tactil en la entrada del tick
+    private void readInput() {
+        input.clear();
+        input.left = Gdx.input.isKeyPressed(Input.Keys.LEFT);
+        input.right = Gdx.input.isKeyPressed(Input.Keys.RIGHT);
+        input.fire = Gdx.input.isKeyPressed(Input.Keys.SPACE);
 
-            // Terminar invulnerabilidad cuando el tiempo se acabe
-            if (invincibilityTimer <= 0) {
-                isInvincible = false;
+        for (int i = 0; i < InputState.MAX_POINTERS; i++) {
+            if (Gdx.input.isTouched(i)) {
+                touchPos.set(Gdx.input.getX(i), Gdx.input.getY(i), 0);
+                camera.unproject(touchPos);
+                input.addTouch(touchPos.x, touchPos.y);
             }
         }
+
+        InputRecorder recorder = ((Main) game).recorder;
+        if (recorder != null) recorder.record(input);
     }
 
     private void updateBackground(float delta) {
+        prevBackgroundOffset = backgroundOffset;
         backgroundOffset += 50 * delta;      // Mover fondo para simular scroll vertical
         if (backgroundOffset > background.getHeight()) {
-            backgroundOffset = 0;
+            // Restar en vez de volver a cero para que no se note el salto al interpolar
+            backgroundOffset -= background.getHeight();
+            prevBackgroundOffset -= background.getHeight();
         }
     }
 
-    private void checkCollisions() {
-        // Colisiones entre lasers y enemigos
-        for (Iterator<Rectangle> iter = lasers.iterator(); iter.hasNext(); ) {
-            Rectangle laser = iter.next();
-            for (Iterator<Rectangle> iterEnemy = enemies.iterator(); iterEnemy.hasNext(); ) {
-                Rectangle enemy = iterEnemy.next();
-                if (laser.overlaps(enemy)) {
-                    iter.remove();
-                    iterEnemy.remove();
-                    enemiesDefeated++;           // Aumentar contador de enemigos derrotados
-                    checkVictory();             // Verificar si se cumple condicion de victoria
-                    break;
-                }
-            }
-        }
-
-        // Colisiones entre jugador y enemigos (si no es invulnerable)
-        if (!isInvincible) {
-            for (Rectangle enemy : enemies) {
-                if (player.overlaps(enemy)) {
-                    // Pasar a pantalla de Game Over
-                    game.setScreen(new GameOverScreen(game, false, currentLevelIndex, timeElapsed, obstaclesPassed, enemiesDefeated));
-                    return;
-                }
-            }
-        }
-
-        // Colisiones entre jugador y obstaculos (si no es invulnerable)
-        if (!isInvincible) {
-            for (Rectangle obstacle : obstacles) {
-                if (player.overlaps(obstacle)) {
-                    // Pasar a pantalla de Game Over
-                    game.setScreen(new GameOverScreen(game, false, currentLevelIndex, timeElapsed, obstaclesPassed, enemiesDefeated));
-                    return;
-                }
-            }
+    // Cambiar de pantalla cuando la partida termina
+    private void checkOutcome() {
+        if (finished) return;
+        GameWorld.Outcome outcome = world.getOutcome();
+        InputRecorder recorder = ((Main) game).recorder;
+        if (outcome != GameWorld.Outcome.RUNNING && recorder != null) {
+            recorder.endSession(world);         // Guardar el estado final de la partida
+            recorder.flush();
         }
-
-        // Colisiones entre jugador y power-ups de invulnerabilidad
-        for (Iterator<Rectangle> iter = invincibilityPowerups.iterator(); iter.hasNext(); ) {
-            Rectangle powerup = iter.next();
-            if (player.overlaps(powerup)) {
-                activateInvincibility();
-                iter.remove();
-                break;
-            }
+        if (outcome == GameWorld.Outcome.RUNNING) return;
+        finished = true;
+        // Sumar este nivel a los anteriores; la partida se guarda una sola vez, al terminar
+        Main main = (Main) game;
+        RunStats run = RunStats.of(world, main.clearedLevels);
+        if (outcome == GameWorld.Outcome.DEFEAT) {
+            main.stats.record(run);
+            // Pasar a pantalla de Game Over
+            game.setScreen(new GameOverScreen(game, false, world.getLevelIndex(), run.timeElapsed,
+                run.obstaclesPassed, run.enemiesDefeated));
+        } else if (world.hasNextLevel()) {
+            // Si no es el ultimo nivel, pasar al siguiente con los totales hasta aqui
+            main.clearedLevels = run;
+            game.setScreen(new LevelTransitionScreen(game, world.getLevelIndex() + 1));
+        } else {
+            // Si es el ultimo nivel, mostrar pantalla de victoria
+            main.stats.record(run);
+            game.setScreen(new VictoryScreen(game, world.getLevelIndex() + 1, run.timeElapsed,
+                run.obstaclesPassed, run.enemiesDefeated));
         }
     }
 
-    private void checkVictory() {
-        // Comprobar si alguna condicion de victoria se cumple
-        if (enemiesDefeated >= currentLevel.victoryEnemies ||
-            obstaclesPassed >= currentLevel.victoryObstacles ||
-            timeElapsed >= currentLevel.victoryTime) {
+    @Override
+    public void laserFired() {
+        Main main = (Main) game;
+        main.audio.play(main.laserSoundId);  // Sonido de disparo, limitado por el gestor de audio
+    }
 
-            isVictory = true;
+    @Override
+    public void entitySpawned(GameWorld.EntityKind kind) {
+        ((Main) game).telemetry.entitySpawned(kind);
+    }
 
-            if (currentLevelIndex < levels.length - 1) {
-                // Si no es el ultimo nivel, pasar al siguiente
-                game.setScreen(new LevelTransitionScreen(game, currentLevelIndex + 1));
+    @Override
+    public void collision(GameWorld.EntityKind a, GameWorld.EntityKind b, float x, float y) {
+        ((Main) game).telemetry.collision(a, b);
+        explosions.explode(b, x, y);
+    }
 
-            } else {
-                // Si es el ultimo nivel, mostrar pantalla de victoria
-                game.setScreen(new VictoryScreen(game, currentLevelIndex + 1, timeElapsed, obstaclesPassed, enemiesDefeated));
-            }
-        }
+    // Reparte las fases del tick entre el perfilador y la telemetria
+    @Override
+    public void beginPhase(GameWorld.Phase phase) {
+        if (profiler.isEnabled()) profiler.beginPhase(phase);
+        ((Main) game).telemetry.beginPhase(phase);
     }
 
-    private void activateInvincibility() {
-        isInvincible = true;
-        invincibilityTimer = INVINCIBILITY_DURATION;  // Duracion del poder de invulnerabilidad
+    @Override
+    public void endPhase(GameWorld.Phase phase) {
+        ((Main) game).telemetry.endPhase(phase);
+        if (profiler.isEnabled()) profiler.endPhase(phase);
     }
 
-    private void draw() {
+    private void draw(float alpha) {
         batch.setProjectionMatrix(camera.combined);
         batch.begin();
 
-        // Dibujar fondo con efecto scroll
-        batch.draw(background, 0, -backgroundOffset);
-        batch.draw(background, 0, -backgroundOffset + background.getHeight());
+        // Dibujar fondo con efecto scroll; es opaco, asi que sin mezcla
+        float offset = lerp(prevBackgroundOffset, backgroundOffset, alpha);
+        batch.disableBlending();
+        drawBackground(offset);
+        batch.enableBlending();
+        batch.end();
+        int calls = batch.renderCalls;
+
+        // Estrellas por encima del fondo y por debajo de las entidades
+        starfield.render(camera.combined, offset);
+        batch.begin();
 
         // Dibujar jugador, parpadeando si esta invulnerable
-        boolean shouldDrawPlayer = !isInvincible || (blinkTimer < BLINK_INTERVAL / 2);
+        Rectangle player = world.player;
+        boolean isInvincible = world.isInvincible();
+        boolean shouldDrawPlayer = !isInvincible || (world.getBlinkTimer() < GameWorld.BLINK_INTERVAL / 2);
+        float playerX = lerp(world.prevPlayerX, player.x, alpha);
         if (shouldDrawPlayer) {
-            batch.draw(playerTexture, player.x, player.y, player.width, player.height);
+            batch.draw(playerTexture, playerX, player.y, player.width, player.height);
         }
         // Dibujar escudo si esta invulnerable
         if (isInvincible) {
-            batch.draw(shieldTexture, player.x - 5, player.y - 5, player.width + 10, player.height + 10);
+            batch.draw(shieldTexture, playerX - 5, player.y - 5, player.width + 10, player.height + 10);
         }
 
-        // Dibujar lasers
-        for (Rectangle laser : lasers) {
-            batch.draw(laserTexture, laser.x, laser.y, laser.width, laser.height);
-        }
-        // Dibujar enemigos
-        for (Rectangle enemy : enemies) {
-            batch.draw(enemyTexture, enemy.x, enemy.y, enemy.width, enemy.height);
-        }
-        // Dibujar power-ups
-        for (Rectangle powerup : invincibilityPowerups) {
-            batch.draw(invincibilityTexture, powerup.x, powerup.y, powerup.width, powerup.height);
+        // Dibujar lasers, enemigos, power-ups y obstaculos
+        drawEntities(laserTexture, world.lasers, alpha);
+        drawEntities(enemyTexture, world.enemies, alpha);
+        drawEntities(invincibilityTexture, world.invincibilityPowerups, alpha);
+        drawEntities(obstacleTexture, world.obstacles, alpha);
+        if (world.isBossActive()) {
+            Rectangle boss = world.boss;
+            batch.draw(bossTexture, lerp(world.prevBossX, boss.x, alpha), lerp(world.prevBossY, boss.y, alpha),
+                boss.width, boss.height);
         }
-        // Dibujar obstaculos
-        for (Rectangle obstacle : obstacles) {
-            batch.draw(obstacleTexture, obstacle.x, obstacle.y, obstacle.width, obstacle.height);
+        drawBullets(world.bullets, alpha);
+        explosions.draw(batch, alpha);
+
+        // Mostrar informacion en pantalla: nombre del nivel, tiempo y contadores
+        hud.update(world);
+        hud.draw(batch);
+        if (profiler.isEnabled()) {
+            profiler.drawOverlay(batch, audiowideFont, 10, 395);
         }
 
-        // Mostrar informacion en pantalla
-        GlyphLayout layout = new GlyphLayout();
-
-        // Level name (center top, más grande)
-        audiowideFont.getData().setScale(0.6f);
-        layout.setText(audiowideFont, currentLevel.name.toUpperCase());
-        float xCentered = (800 - layout.width) / 2f;  // Centrar en X
-
-        audiowideFont.draw(batch, currentLevel.name.toUpperCase(), xCentered, 470);
+        batch.end();
+        renderCalls = calls + 1 + batch.renderCalls;
+    }
 
-        // Time elapsed (top left)
-        audiowideFont.getData().setScale(0.4f);
-        String timeText = "TIME: " + (int) timeElapsed + "s";
-        audiowideFont.draw(batch, timeText, 10, 425);
+    /**
+     * Dibuja la parte visible del fondo, a su tamaño original, con un solo quad que
+     * repite la textura en vertical. Si la GPU no puede repetirla se parte en dos
+     * quads por la costura; en ambos casos cada pixel de pantalla se pinta una vez.
+     */
+    private void drawBackground(float offset) {
+        float width = background.getWidth();
+        float height = background.getHeight();
+        float u2 = GameWorld.WIDTH / width;
+        float v = 1 - offset / height;                     // Abajo de la pantalla
+        float v2 = v - GameWorld.HEIGHT / height;           // Arriba de la pantalla
+        if (backgroundRepeats || v2 >= 0) {
+            batch.draw(background, 0, 0, GameWorld.WIDTH, GameWorld.HEIGHT, 0, v, u2, v2);
+        } else {
+            float seam = height - offset;                    // Altura de la costura en pantalla
+            batch.draw(background, 0, 0, GameWorld.WIDTH, seam, 0, v, u2, 0);
+            batch.draw(background, 0, seam, GameWorld.WIDTH, GameWorld.HEIGHT - seam, 0, 1, u2, v2 + 1);
+        }
+    }
 
-        // Enemies defeated (top right)
-        String enemiesText = "ENEMIES DEFEATED: " + enemiesDefeated;
-        layout.setText(audiowideFont, enemiesText);
-        float xRight = 800 - layout.width - 10;  // 10px margen derecha
-        audiowideFont.draw(batch, enemiesText, xRight, 425);
+    // Llamadas de dibujo del ultimo frame: el fondo, las estrellas y el atlas (una mas cada 8191 sprites)
+    public int getRenderCalls() {
+        return renderCalls;
+    }
 
-        // Obstacles avoided (below enemies defeated)
-        String obstaclesText = "OBSTACLES AVOIDED: " + obstaclesPassed;
-        layout.setText(audiowideFont, obstaclesText);
-        float xRight2 = 800 - layout.width - 10;
-        audiowideFont.draw(batch, obstaclesText, xRight2, 405);
+    private void drawEntities(TextureRegion texture, EntityStore store, float alpha) {
+        for (int i = 0; i < store.size; i++) {
+            batch.draw(texture, store.x[i], lerp(store.prevY[i], store.y[i], alpha), store.width[i], store.height[i]);
+        }
+    }
 
+    // Todas las balas con el mismo tinte; el batch se vacia una vez cada 8191 sprites
+    private void drawBullets(EnemyBullets bullets, float alpha) {
+        batch.setColor(BULLET_TINT);
+        for (int i = 0; i < bullets.size; i++) {
+            batch.draw(bulletTexture, lerp(bullets.prevX[i], bullets.x[i], alpha), lerp(bullets.prevY[i], bullets.y[i], alpha),
+                EnemyBullets.SIZE, EnemyBullets.SIZE);
+        }
+        batch.setPackedColor(Color.WHITE_FLOAT_BITS);
+    }
 
-        batch.end();
+    private static float lerp(float from, float to, float alpha) {
+        return from + (to - from) * alpha;
     }
 
     // Metodos obligatorios de la interfaz Screen
     @Override public void resize(int width, int height) {}
     @Override public void pause() {}
     @Override public void resume() {}
-    @Override public void show() {}
     @Override public void hide() {}
     @Override public void dispose() {
         // Liberar recursos
-        playerTexture.dispose();
-        laserTexture.dispose();
-        enemyTexture.dispose();
-        background.dispose();
-        invincibilityTexture.dispose();
-        shieldTexture.dispose();
-        obstacleTexture.dispose();
-        audiowideFont.dispose();
+        profiler.setEnabled(false);            // Devolver el GL original si se estaba midiendo
+        InputRecorder recorder = ((Main) game).recorder;
+        if (recorder != null) recorder.endSession(world);  // Partida sin terminar
+        Assets assets = ((Main) game).assets;
+        assets.release(Assets.GAMEPLAY_ATLAS);
+        assets.release(Assets.BACKGROUND);
+        assets.release(Assets.FONT);
+        starfield.dispose();
         batch.dispose();
     }
 }
@@ -0,0 +1,651 @@
+package io.github.rebeca.spaceshooter;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.math.Rectangle;
+
+/**
+ * Simulacion completa de una partida, sin dependencias de graficos, audio ni
+ * entrada de libGDX. Recibe un {@link InputState} por tick y avisa de lo que
+ * ocurre mediante un {@link Listener}, por lo que puede ejecutarse sin contexto
+ * GL (pruebas, benchmarks, bots) tan rapido como permita la CPU.
+ */
+public class GameWorld {
+    public static final float WIDTH = 800;
+    public static final float HEIGHT = 480;
+
+    // Tabla de niveles
+    public static final Level[] LEVELS = {
+        new Level(8, 8, 45f, 2.0f, 4f, 200f, 120f, "LEVEL 1 - TRAINING"),
+        new Level(15, 15, 70f, 1.5f, 3.5f, 300f, 180f, "LEVEL 2 - COMBAT"),
+        new Level(25, 25, 100f, 1.2f, 2.5f, 400f, 250f, "LEVEL 3 - BOSS",
+            // Oleadas de enemigos en formacion; derrotar al jefe tambien gana el nivel
+            SpawnStream.wave(EntityKind.ENEMY, 20f, 4),
+            SpawnStream.wave(EntityKind.BOSS, 30f, 1),
+            SpawnStream.wave(EntityKind.ENEMY, 40f, 6))
+    };
+
+    /** Resultado de la partida. */
+    public enum Outcome { RUNNING, VICTORY, DEFEAT }
+
+    /** Condicion de victoria que termino el nivel. */
+    public enum VictoryCondition { ENEMIES, OBSTACLES, TIME, BOSS }
+
+    /** Tipos de entidad, para los eventos de aparicion y colision. */
+    public enum EntityKind { PLAYER, LASER, ENEMY, POWERUP, OBSTACLE, BOSS, BULLET }
+
+    /**
+     * Eventos que emite la simulacion. Todos los metodos son opcionales. Las balas
+     * enemigas no avisan al aparecer: pueden salir cientos por tick.
+     */
+    public interface Listener {
+        default void laserFired() {}
+        default void enemyDestroyed() {}
+        default void powerupCollected() {}
+        default void playerDestroyed() {}
+        default void levelCompleted() {}
+        default void entitySpawned(EntityKind kind) {}
+        default void collision(EntityKind a, EntityKind b, float x, float y) {}  // Centro de b (contra el jefe, la punta del laser)
+    }
+
+    private static final Listener NO_LISTENER = new Listener() {};
+
+    /** Fases de un tick, en el orden en que se ejecutan. */
+    public enum Phase { VICTORY, INPUT, SPAWNS, LASERS, ENEMIES, POWERUPS, BOSS, BULLETS, COLLISIONS, OBSTACLES }
+
+    /**
+     * Datos del mundo que leen y escriben los sistemas del tick. Sirven para declarar
+     * el acceso de cada {@link WorldSystem} como mascara de bits.
+     */
+    public enum Data {
+        PLAYER, LASERS, ENEMIES, POWERUPS, OBSTACLES, BOSS, BULLETS,
+        STATUS,     // Invulnerabilidad del jugador
+        STATS,      // Tiempo, contadores y resultado
+        SPAWNER,    // Linea de tiempo y generadores de apariciones
+        EVENTS;     // Avisos al Listener, que deben salir en orden
+
+        public final int bit = 1 << ordinal();
+    }
+
+    /**
+     * Recibe el inicio y el final de cada fase del tick, para medir tiempos. Con un
+     * {@link SystemRunner} en paralelo, fases distintas pueden avisar desde hilos distintos.
+     */
+    public interface PhaseListener {
+        void beginPhase(Phase phase);
+        void endPhase(Phase phase);
+    }
+
+    // Jugador
+    public final Rectangle player = new Rectangle();
+    public float prevPlayerX;                 // Posicion del jugador al inicio del ultimo tick
+    private static final int PLAYER_SIZE = 64;
+    private static final float PLAYER_SPEED = 300;
+
+    // Lasers disparados por el jugador
+    public final EntityStore lasers = new EntityStore(64);
+    private static final float LASER_SPEED = 500;
+    private float shootCooldown;              // Tiempo entre disparos
+    private static final float SHOOT_DELAY = 0.2f;
+
+    // Enemigos que aparecen en pantalla
+    public final EntityStore enemies = new EntityStore(32);
+    private static final int ENEMY_SIZE = 64;
+    private final UniformGrid enemyGrid = new UniformGrid(WIDTH, HEIGHT, 64);  // Fase amplia de colisiones
+
+    // Power-ups de invulnerabilidad
+    public final EntityStore invincibilityPowerups = new EntityStore(4);
+    private float invincibilityTimer;
+    private boolean isInvincible;             // Estado de invulnerabilidad
+    private float blinkTimer;                 // Para efecto parpadeo durante invulnerabilidad
+    public static final float BLINK_INTERVAL = 0.1f;
+    private static final float INVINCIBILITY_DURATION = 5f;
+
+    // Obstaculos que caen y el jugador debe evitar
+    public final EntityStore obstacles = new EntityStore(32);
+    private static final int OBSTACLE_SIZE = 48;
+
+    // Mascaras de pixeles de jugador, enemigos y obstaculos; null = prueba de cajas
+    public static final String PLAYER_REGION = "player";
+    public static final String ENEMY_REGION = "enemyBlack1";
+    public static final String OBSTACLE_REGION = "meteor";
+    private CollisionMasks masks;
+    private CollisionMask playerMask;
+    private CollisionMask enemyMask;
+    private CollisionMask obstacleMask;
+
+    // Jefe del ultimo nivel y sus balas
+    public final Rectangle boss = new Rectangle();
+    public float prevBossX, prevBossY;
+    public final EnemyBullets bullets = new EnemyBullets();
+    public static final int BOSS_HEALTH = 30;
+    private static final float BOSS_Y = HEIGHT - 120;     // Altura a la que se queda
+    private static final float BOSS_ENTRY_SPEED = 60;
+    private static final float PLAYER_HITBOX = 16;        // Lado de la zona del jugador que reciben las balas
+    // Patrones de cada tercio de vida del jefe, de mas a menos vida
+    private static final BulletPattern[][] BOSS_SCRIPT = {
+        {BulletPattern.ring(14, 90, 1.5f)},
+        {BulletPattern.spiral(2, 90, 0.22f, 0.4f), BulletPattern.ring(8, 80, 3f)},
+        {BulletPattern.aimed(3, 150, 1.3f, 0.5f), BulletPattern.spiral(2, 90, 0.3f, -0.5f)},
+    };
+    private boolean bossActive;
+    private int bossHealth;
+    private float bossTime;                   // Tiempo desde que aparecio, para su vaiven
+    private int bossStage;                    // Fila de BOSS_SCRIPT en uso
+    private final float[] patternTimers = new float[2];
+    private final int[] patternShots = new int[2];
+
+    // Linea de tiempo con todas las apariciones del nivel
+    private final SpawnScheduler spawner = new SpawnScheduler();
+    private final SpawnScheduler.Target spawnTarget = this::spawn;
+    private int obstaclesPassed;              // Contador de obstaculos que se han pasado sin colision
+
+    // Estadisticas del juego
+    private float timeElapsed;                // Tiempo transcurrido en la partida
+    private int enemiesDefeated;              // Enemigos derrotados
+    private Outcome outcome;
+    private VictoryCondition victoryCondition;  // Null si no se gano
+    private EntityKind deathCause;              // Null si no se perdio
+
+    private int levelIndex;                   // Indice del nivel actual
+    private Level level;                      // Nivel actual
+    // Generadores propios con semilla: con la misma semilla y la misma entrada la
+    // partida se repite igual. Cada tipo de aparicion usa su propio flujo
+    private long seed;
+    private final RandomXS128 enemyRandom = new RandomXS128();
+    private final RandomXS128 obstacleRandom = new RandomXS128();
+    private final RandomXS128 powerupRandom = new RandomXS128();
+
+    private Listener listener = NO_LISTENER;
+    private PhaseListener phaseListener;      // Null si nadie mide las fases
+
+    // Sistemas del tick, repartidos en etapas segun los datos que tocan
+    private final SystemScheduler systems = new SystemScheduler();
+    private InputState input;                 // Entrada del tick en curso
+    private boolean endless;                  // Sin victoria ni derrota (benchmarks y pruebas)
+
+    public GameWorld(int levelIndex) {
+        this(levelIndex, MathUtils.random.nextLong());
+    }
+
+    public GameWorld(int levelIndex, long seed) {
+        addSystems();
+        reset(levelIndex, seed);
+    }
+
+    // Los sistemas en el orden del tick; el planificador respeta ese orden donde importa
+    private void addSystems() {
+        systems.add(new WorldSystem(Phase.VICTORY, Data.STATS.bit, Data.STATS.bit | Data.EVENTS.bit,
+            delta -> checkVictory()));
+        systems.add(new WorldSystem(Phase.INPUT, 0, Data.PLAYER.bit | Data.LASERS.bit | Data.EVENTS.bit,
+            delta -> handleInput(input, delta)));
+        systems.add(new WorldSystem(Phase.SPAWNS, 0,
+            Data.SPAWNER.bit | Data.ENEMIES.bit | Data.OBSTACLES.bit | Data.POWERUPS.bit | Data.BOSS.bit | Data.EVENTS.bit,
+            delta -> spawner.advance(delta, spawnTarget)));
+        systems.add(new WorldSystem(Phase.LASERS, 0, Data.LASERS.bit, this::updateLasers));
+        systems.add(new WorldSystem(Phase.ENEMIES, 0, Data.ENEMIES.bit, this::updateEnemies));
+        systems.add(new WorldSystem(Phase.POWERUPS, 0, Data.POWERUPS.bit | Data.STATUS.bit, delta -> {
+            updatePowerups(delta);
+            updateInvincibility(delta);
+        }));
+        systems.add(new WorldSystem(Phase.BOSS, Data.PLAYER.bit, Data.BOSS.bit | Data.BULLETS.bit, this::updateBoss));
+        systems.add(new WorldSystem(Phase.BULLETS, 0, Data.BULLETS.bit, bullets::move));
+        systems.add(new WorldSystem(Phase.COLLISIONS, Data.PLAYER.bit | Data.OBSTACLES.bit | Data.BULLETS.bit,
+            Data.LASERS.bit | Data.ENEMIES.bit | Data.POWERUPS.bit | Data.BOSS.bit | Data.STATUS.bit
+                | Data.STATS.bit | Data.EVENTS.bit,
+            delta -> checkCollisions()));
+        systems.add(new WorldSystem(Phase.OBSTACLES, 0, Data.OBSTACLES.bit | Data.STATS.bit, this::updateObstacles));
+    }
+
+    // Deja el mundo listo para empezar el nivel indicado con una semilla nueva
+    public void reset(int levelIndex) {
+        reset(levelIndex, MathUtils.random.nextLong());
+    }
+
+    // Deja el mundo listo para repetir exactamente una partida ya jugada
+    public void reset(int levelIndex, long seed) {
+        this.seed = seed;
+        enemyRandom.setSeed(seed);
+        obstacleRandom.setSeed(seed + 1);
+        powerupRandom.setSeed(seed + 2);
+
+        this.levelIndex = Math.min(levelIndex, LEVELS.length - 1);
+        this.level = LEVELS[this.levelIndex];
+
+        player.set(WIDTH / 2 - PLAYER_SIZE / 2, 20, PLAYER_SIZE, PLAYER_SIZE);
+        prevPlayerX = player.x;
+        lasers.clear();
+        enemies.clear();
+        invincibilityPowerups.clear();
+        obstacles.clear();
+        bullets.clear();
+        bossActive = false;
+        bossHealth = 0;
+
+        shootCooldown = 0;
+        spawner.reset(level.spawns);
+        invincibilityTimer = 0;
+        isInvincible = false;
+        blinkTimer = 0;
+        obstaclesPassed = 0;
+        timeElapsed = 0;
+        enemiesDefeated = 0;
+        outcome = Outcome.RUNNING;
+        victoryCondition = null;
+        deathCause = null;
+    }
+
+    // En modo sin fin se siguen evaluando las colisiones y la victoria, pero la partida no termina
+    public void setEndless(boolean endless) {
+        this.endless = endless;
+    }
+
+    public void setListener(Listener listener) {
+        this.listener = listener != null ? listener : NO_LISTENER;
+    }
+
+    public void setPhaseListener(PhaseListener phaseListener) {
+        this.phaseListener = phaseListener;
+    }
+
+    // Como se ejecutan los sistemas de una misma etapa; por defecto uno tras otro
+    public void setSystemRunner(SystemRunner runner) {
+        systems.setRunner(runner);
+    }
+
+    public SystemScheduler getSystems() {
+        return systems;
+    }
+
+    /**
+     * Usa las mascaras de pixeles de los sprites para las colisiones del jugador con
+     * enemigos y obstaculos, al tamaño con que se dibujan. Con null vuelve a las cajas.
+     * Cambia el resultado de la simulacion: una grabacion solo coincide si se repite
+     * con las mismas mascaras.
+     */
+    public void setMasks(CollisionMasks masks) {
+        if (masks == this.masks) return;      // Reintentos y repeticiones vuelven a pasar las mismas
+        this.masks = masks;
+        playerMask = masks != null ? masks.get(PLAYER_REGION, PLAYER_SIZE, PLAYER_SIZE) : null;
+        enemyMask = masks != null ? masks.get(ENEMY_REGION, ENEMY_SIZE, ENEMY_SIZE) : null;
+        obstacleMask = masks != null ? masks.get(OBSTACLE_REGION, OBSTACLE_SIZE, OBSTACLE_SIZE) : null;
+    }
+
+    // Avanza la simulacion un tick
+    public void step(InputState input, float delta) {
+        if (outcome != Outcome.RUNNING) return;   // Si la partida termino, no actualizar nada
+
+        prevPlayerX = player.x;
+        timeElapsed += delta;                  // Incrementar tiempo jugado
+        this.input = input;
+        // Victoria, entrada, apariciones, movimiento de cada tipo, colisiones y obstaculos
+        systems.run(delta, phaseListener);
+        this.input = null;
+    }
+
+    private void handleInput(InputState input, float delta) {
+        // Control por teclado
+        if (input.left) {
+            player.x -= PLAYER_SPEED * delta;
+        }
+        if (input.right) {
+            player.x += PLAYER_SPEED * delta;
+        }
+        if (input.fire) {
+            shoot();
+        }
+
+        // Control tactil
+        for (int i = 0; i < input.touchCount; i++) {
+            float touchX = input.touchX[i];
+            float touchY = input.touchY[i];
+
+            // Mover jugador
+            if (!player.contains(touchX, touchY)) {
+                player.x = touchX - player.width / 2;
+                player.x = MathUtils.clamp(player.x, 0, WIDTH - player.width);
+            } else {
+                // Si se toca el jugador, disparar
+                shoot();
+            }
+        }
+
+        // Limitar movimiento para que no salga de la pantalla
+        player.x = MathUtils.clamp(player.x, 0, WIDTH - player.width);
+
+        // Disminuir tiempo de recarga para disparar
+        if (shootCooldown > 0) {
+            shootCooldown -= delta;
+        }
+    }
+
+    private void shoot() {
+        // Disparar solo si no estamos en periodo de recarga
+        if (shootCooldown <= 0) {
+            lasers.add(
+                (float) (player.x + player.width / 1.5 - (double) 10 / 7),
+                player.y + player.height,
+                10,
+                25,
+                LASER_SPEED
+            );
+            shootCooldown = SHOOT_DELAY;        // Reiniciar tiempo de recarga
+            listener.entitySpawned(EntityKind.LASER);
+            listener.laserFired();
+        }
+    }
+
+    private void updateLasers(float delta) {
+        // Mover cada laser hacia arriba, eliminar si sale de pantalla
+        lasers.move(delta);
+        for (int i = lasers.size - 1; i >= 0; i--) {
+            if (lasers.y[i] > HEIGHT) lasers.removeAt(i);
+        }
+    }
+
+    // Crea las entidades de una aparicion. Con varias, cada una sale en su franja de
+    // pantalla; el retraso las adelanta lo que ya se habrian movido
+    private void spawn(EntityKind kind, int count, float lag) {
+        for (int slot = 0; slot < count; slot++) {
+            switch (kind) {
+                case ENEMY:
+                    if (bossActive && count == 1) return;  // Con el jefe en pantalla solo llegan las oleadas
+                    spawn(enemies, enemyRandom, ENEMY_SIZE, -level.enemySpeed, slot, count, lag);
+                    break;
+                case OBSTACLE:
+                    spawn(obstacles, obstacleRandom, OBSTACLE_SIZE, -level.obstacleSpeed, slot, count, lag);
+                    break;
+                case POWERUP:
+                    spawn(invincibilityPowerups, powerupRandom, 50, -level.enemySpeed * 0.7f, slot, count, lag);
+                    break;
+                case BOSS:
+                    if (bossActive) return;     // Solo hay un jefe a la vez
+                    spawnBoss();
+                    break;
+                default:
+                    return;
+            }
+            listener.entitySpawned(kind);
+        }
+    }
+
+    private void spawn(EntityStore store, RandomXS128 random, float size, float velocity, int slot, int count, float lag) {
+        float slotWidth = WIDTH / count;
+        float x = slotWidth * slot + random.nextInt(Math.max(1, (int) (slotWidth - size) + 1));
+        store.add(Math.min(x, WIDTH - size), HEIGHT + velocity * lag, size, size, velocity);
+    }
+
+    private void spawnBoss() {
+        boss.set(WIDTH / 2 - 64, HEIGHT, 128, 96);
+        prevBossX = boss.x;
+        prevBossY = boss.y;
+        bossActive = true;
+        bossHealth = BOSS_HEALTH;
+        bossTime = 0;
+        bossStage = -1;
+    }
+
+    // Baja hasta su altura, se mueve de lado a lado y dispara los patrones de su tercio de vida
+    private void updateBoss(float delta) {
+        if (!bossActive) return;
+        prevBossX = boss.x;
+        prevBossY = boss.y;
+        bossTime += delta;
+        boss.x = WIDTH / 2 - boss.width / 2 + MathUtils.sin(bossTime * 0.7f) * 260;
+        if (boss.y > BOSS_Y) {
+            boss.y = Math.max(BOSS_Y, boss.y - BOSS_ENTRY_SPEED * delta);
+            return;                          // No dispara mientras entra
+        }
+
+        int stage = bossHealth * 3 > BOSS_HEALTH * 2 ? 0 : (bossHealth * 3 > BOSS_HEALTH ? 1 : 2);
+        if (stage != bossStage) {
+            bossStage = stage;
+            for (int p = 0; p < patternTimers.length; p++) {
+                patternTimers[p] = 0;
+                patternShots[p] = 0;
+            }
+        }
+        BulletPattern[] patterns = BOSS_SCRIPT[stage];
+        float cx = boss.x + boss.width / 2;
+        float cy = boss.y + 20;
+        float targetX = player.x + player.width / 2;
+        float targetY = player.y + player.height / 2;
+        for (int p = 0; p < patterns.length; p++) {
+            patternTimers[p] -= delta;
+            while (patternTimers[p] <= 0) {
+                patterns[p].fire(bullets, patternShots[p]++, cx, cy, targetX, targetY);
+                patternTimers[p] += patterns[p].interval;
+            }
+        }
+    }
+
+    private void updateEnemies(float delta) {
+        // Mover enemigos hacia abajo y eliminar si salen de pantalla
+        enemies.move(delta);
+        for (int i = enemies.size - 1; i >= 0; i--) {
+            if (enemies.y[i] + enemies.height[i] < 0) enemies.removeAt(i);
+        }
+    }
+
+    private void updateObstacles(float delta) {
+        // Mover obstaculos hacia abajo
+        obstacles.move(delta);
+        for (int i = obstacles.size - 1; i >= 0; i--) {
+            // Contar obstaculos que pasaron sin colisionar y eliminar
+            if (obstacles.y[i] + obstacles.height[i] < 0) {
+                obstaclesPassed++;
+                obstacles.removeAt(i);
+            }
+        }
+    }
+
+    private void updatePowerups(float delta) {
+        // Mover power-ups hacia abajo y eliminar si salen de pantalla
+        invincibilityPowerups.move(delta);
+        for (int i = invincibilityPowerups.size - 1; i >= 0; i--) {
+            if (invincibilityPowerups.y[i] + invincibilityPowerups.height[i] < 0) invincibilityPowerups.removeAt(i);
+        }
+    }
+
+    private void updateInvincibility(float delta) {
+        if (isInvincible) {
+            invincibilityTimer -= delta;    // Reducir tiempo de invulnerabilidad
+            blinkTimer += delta;            // Control del parpadeo
+
+            if (blinkTimer > BLINK_INTERVAL) {
+                blinkTimer = 0;
+            }
+
+            // Terminar invulnerabilidad cuando el tiempo se acabe
+            if (invincibilityTimer <= 0) {
+                isInvincible = false;
+            }
+        }
+    }
+
+    private void checkCollisions() {
+        // Fase amplia: repartir los enemigos en la rejilla
+        enemyGrid.build(enemies);
+        int[] candidates = enemyGrid.candidates();
+
+        // Colisiones entre lasers y enemigos. Se prueba el tramo recorrido en el tick,
+        // asi un laser no atraviesa a un enemigo aunque el frame sea largo. Como el doble
+        // bucle original, los lasers van en orden y cada uno destruye al enemigo vivo de
+        // menor indice que toca; ambos se marcan y se eliminan al final del recorrido
+        for (int i = 0; i < lasers.size; i++) {
+            int count = enemyGrid.query(lasers.x[i], lasers.sweptBottom(i), lasers.width[i], lasers.sweptHeight(i));
+            int hit = -1;
+            for (int k = 0; k < count; k++) {
+                int j = candidates[k];
+                if ((hit < 0 || j < hit) && !enemies.removed[j] && lasers.sweptOverlaps(i, enemies, j)) {
+                    hit = j;
+                }
+            }
+            if (hit >= 0) {
+                lasers.markRemoved(i);
+                enemies.markRemoved(hit);
+                enemiesDefeated++;           // Aumentar contador de enemigos derrotados
+                listener.collision(EntityKind.LASER, EntityKind.ENEMY, enemies.centerX(hit), enemies.centerY(hit));
+                listener.enemyDestroyed();
+                checkVictory();             // Verificar si se cumple condicion de victoria
+            }
+        }
+        lasers.compact();
+
+        // Colisiones entre jugador y enemigos (si no es invulnerable)
+        if (!isInvincible) {
+            int count = enemyGrid.query(player.x, player.y, player.width, player.height);
+            for (int k = 0; k < count; k++) {
+                int j = candidates[k];
+                if (!enemies.removed[j] && enemies.sweptOverlaps(j, enemyMask, player, playerMask)) {
+                    listener.collision(EntityKind.PLAYER, EntityKind.ENEMY, enemies.centerX(j), enemies.centerY(j));
+                    defeat(EntityKind.ENEMY);
+                    break;
+                }
+            }
+        }
+        enemies.compact();
+
+        // Lasers contra el jefe: cada impacto le quita una vida
+        if (bossActive) {
+            for (int i = lasers.size - 1; i >= 0 && bossActive; i--) {
+                if (lasers.sweptOverlaps(i, boss)) {
+                    listener.collision(EntityKind.LASER, EntityKind.BOSS, lasers.centerX(i), lasers.y[i] + lasers.height[i]);
+                    lasers.removeAt(i);
+                    if (--bossHealth == 0) defeatBoss();
+                }
+            }
+        }
+
+        // Balas enemigas contra la zona pequeña del centro del jugador. Lo que queda solo
+        // afecta al jugador y se salta tras la derrota; en modo sin fin no la hay
+        if (!isInvincible && outcome != Outcome.DEFEAT) {
+            float half = PLAYER_HITBOX / 2;
+            int hit = bullets.hit(player.x + player.width / 2 - half, player.y + player.height / 2 - half,
+                PLAYER_HITBOX, PLAYER_HITBOX);
+            if (hit >= 0) {
+                listener.collision(EntityKind.PLAYER, EntityKind.BULLET,
+                    bullets.x[hit] + EnemyBullets.SIZE / 2, bullets.y[hit] + EnemyBullets.SIZE / 2);
+                defeat(EntityKind.BULLET);
+            }
+        }
+
+        // Colisiones entre jugador y obstaculos (si no es invulnerable)
+        if (!isInvincible && outcome != Outcome.DEFEAT) {
+            for (int i = 0; i < obstacles.size; i++) {
+                if (obstacles.sweptOverlaps(i, obstacleMask, player, playerMask)) {
+                    listener.collision(EntityKind.PLAYER, EntityKind.OBSTACLE, obstacles.centerX(i), obstacles.centerY(i));
+                    defeat(EntityKind.OBSTACLE);
+                    break;
+                }
+            }
+        }
+
+        // Colisiones entre jugador y power-ups de invulnerabilidad
+        if (outcome == Outcome.DEFEAT) return;
+        for (int i = 0; i < invincibilityPowerups.size; i++) {
+            if (invincibilityPowerups.overlaps(i, player)) {
+                listener.collision(EntityKind.PLAYER, EntityKind.POWERUP,
+                    invincibilityPowerups.centerX(i), invincibilityPowerups.centerY(i));
+                activateInvincibility();
+                invincibilityPowerups.removeAt(i);
+                break;
+            }
+        }
+    }
+
+    private void checkVictory() {
+        // Comprobar si alguna condicion de victoria se cumple
+        if (outcome != Outcome.RUNNING || endless) return;
+        if (enemiesDefeated >= level.victoryEnemies) {
+            victory(VictoryCondition.ENEMIES);
+        } else if (obstaclesPassed >= level.victoryObstacles) {
+            victory(VictoryCondition.OBSTACLES);
+        } else if (timeElapsed >= level.victoryTime) {
+            victory(VictoryCondition.TIME);
+        }
+    }
+
+    private void defeatBoss() {
+        bossActive = false;
+        enemiesDefeated++;
+        listener.enemyDestroyed();
+        if (outcome == Outcome.RUNNING && !endless) victory(VictoryCondition.BOSS);
+    }
+
+    private void victory(VictoryCondition condition) {
+        outcome = Outcome.VICTORY;
+        victoryCondition = condition;
+        listener.levelCompleted();
+    }
+
+    private void defeat(EntityKind cause) {
+        if (outcome != Outcome.RUNNING || endless) return;  // La victoria de este tick ya cuenta
+        outcome = Outcome.DEFEAT;
+        deathCause = cause;
+        listener.playerDestroyed();
+    }
+
+    private void activateInvincibility() {
+        isInvincible = true;
+        invincibilityTimer = INVINCIBILITY_DURATION;  // Duracion del poder de invulnerabilidad
+        listener.powerupCollected();
+    }
+
+    /**
+     * Resumen del estado del mundo: contadores, jugador y posicion de cada entidad.
+     * Dos ejecuciones con la misma semilla y la misma entrada deben dar el mismo
+     * valor, en cualquier plataforma.
+     */
+    public int checksum() {
+        int hash = levelIndex;
+        hash = 31 * hash + outcome.ordinal();
+        hash = 31 * hash + Float.floatToIntBits(timeElapsed);
+        hash = 31 * hash + enemiesDefeated;
+        hash = 31 * hash + obstaclesPassed;
+        hash = 31 * hash + Float.floatToIntBits(player.x);
+        hash = 31 * hash + (isInvincible ? 1 : 0);
+        hash = checksum(hash, lasers);
+        hash = checksum(hash, enemies);
+        hash = checksum(hash, invincibilityPowerups);
+        hash = checksum(hash, obstacles);
+        hash = 31 * hash + (bossActive ? bossHealth : -1);
+        if (bossActive) {
+            hash = 31 * hash + Float.floatToIntBits(boss.x);
+            hash = 31 * hash + Float.floatToIntBits(boss.y);
+        }
+        hash = 31 * hash + bullets.size;
+        for (int i = 0; i < bullets.size; i++) {
+            hash = 31 * hash + Float.floatToIntBits(bullets.x[i]);
+            hash = 31 * hash + Float.floatToIntBits(bullets.y[i]);
+        }
+        return hash;
+    }
+
+    private static int checksum(int hash, EntityStore store) {
+        hash = 31 * hash + store.size;
+        for (int i = 0; i < store.size; i++) {
+            hash = 31 * hash + Float.floatToIntBits(store.x[i]);
+            hash = 31 * hash + Float.floatToIntBits(store.y[i]);
+        }
+        return hash;
+    }
+
+    public Outcome getOutcome() { return outcome; }
+    public VictoryCondition getVictoryCondition() { return victoryCondition; }
+    public EntityKind getDeathCause() { return deathCause; }
+    public boolean hasNextLevel() { return levelIndex < LEVELS.length - 1; }
+    public int getLevelIndex() { return levelIndex; }
+    public Level getLevel() { return level; }
+    public float getTimeElapsed() { return timeElapsed; }
+    public int getEnemiesDefeated() { return enemiesDefeated; }
+    public int getObstaclesPassed() { return obstaclesPassed; }
+    public long getSeed() { return seed; }
+    public boolean isInvincible() { return isInvincible; }
+    public int getEntityCount() {
+        return lasers.size + enemies.size + invincibilityPowerups.size + obstacles.size + bullets.size + (bossActive ? 1 : 0);
+    }
+    public boolean isBossActive() { return bossActive; }
+    public int getBossHealth() { return bossHealth; }
+    public float getBlinkTimer() { return blinkTimer; }
+}
@@ -0,0 +1,78 @@
+package io.github.rebeca.spaceshooter;
+
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.BitmapFontCache;
+import com.badlogic.gdx.utils.Align;
+
+/**
+ * HUD de la pantalla de juego. Cada linea guarda sus vertices en un
+ * {@link BitmapFontCache} y solo se vuelve a maquetar cuando cambia el numero que
+ * muestra (el tiempo cambia una vez por segundo, los contadores con cada evento).
+ * En un frame normal dibujar el HUD es copiar vertices ya calculados al batch.
+ */
+public class Hud {
+    private static final float TITLE_SCALE = 0.6f;
+    private static final float TEXT_SCALE = 0.4f;
+
+    private final BitmapFont font;
+    private final StringBuilder text = new StringBuilder(32);
+
+    private final BitmapFontCache title;
+    private final BitmapFontCache time;
+    private final BitmapFontCache enemies;
+    private final BitmapFontCache obstacles;
+
+    // Ultimo valor maquetado de cada linea; MIN_VALUE obliga a reconstruirla
+    private int shownTime = Integer.MIN_VALUE;
+    private int shownEnemies = Integer.MIN_VALUE;
+    private int shownObstacles = Integer.MIN_VALUE;
+
+    public Hud(BitmapFont font) {
+        this.font = font;
+        title = new BitmapFontCache(font);
+        time = new BitmapFontCache(font);
+        enemies = new BitmapFontCache(font);
+        obstacles = new BitmapFontCache(font);
+    }
+
+    // Nombre del nivel centrado arriba; se maqueta una vez por partida
+    public void setTitle(String levelTitle) {
+        layout(title, levelTitle, TITLE_SCALE, GameWorld.WIDTH / 2f, 470, Align.center);
+        shownTime = shownEnemies = shownObstacles = Integer.MIN_VALUE;
+    }
+
+    // Reconstruye solo las lineas cuyo valor cambio desde el ultimo frame
+    public void update(GameWorld world) {
+        int seconds = (int) world.getTimeElapsed();
+        if (seconds != shownTime) {
+            shownTime = seconds;
+            layout(time, HudText.time(text, seconds), TEXT_SCALE, 10, 425, Align.left);
+        }
+        int defeated = world.getEnemiesDefeated();
+        if (defeated != shownEnemies) {
+            shownEnemies = defeated;
+            // Alineada a la derecha con 10px de margen
+            layout(enemies, HudText.enemiesDefeated(text, defeated), TEXT_SCALE, GameWorld.WIDTH - 10, 425, Align.right);
+        }
+        int passed = world.getObstaclesPassed();
+        if (passed != shownObstacles) {
+            shownObstacles = passed;
+            layout(obstacles, HudText.obstaclesAvoided(text, passed), TEXT_SCALE, GameWorld.WIDTH - 10, 405, Align.right);
+        }
+    }
+
+    public void draw(Batch batch) {
+        title.draw(batch);
+        time.draw(batch);
+        enemies.draw(batch);
+        obstacles.draw(batch);
+    }
+
+    // La escala de la fuente solo se toca al maquetar, y se restaura porque la fuente es compartida
+    private void layout(BitmapFontCache cache, CharSequence line, float scale, float x, float y, int align) {
+        font.getData().setScale(scale);
+        cache.setText(line, x, y, 0, align, false);
+        font.getData().setScale(1f);
+    }
+}
@@ -0,0 +1,21 @@
+package io.github.rebeca.spaceshooter;
+
+/** Formato de las lineas del HUD sobre un StringBuilder reutilizado, sin crear cadenas. */
+public final class HudText {
+    private HudText() {}
+
+    public static StringBuilder time(StringBuilder out, float timeElapsed) {
+        out.setLength(0);
+        return out.append("TIME: ").append((int) timeElapsed).append('s');
+    }
+
+    public static StringBuilder enemiesDefeated(StringBuilder out, int enemiesDefeated) {
+        out.setLength(0);
+        return out.append("ENEMIES DEFEATED: ").append(enemiesDefeated);
+    }
+
+    public static StringBuilder obstaclesAvoided(StringBuilder out, int obstaclesPassed) {
+        out.setLength(0);
+        return out.append("OBSTACLES AVOIDED: ").append(obstaclesPassed);
+    }
+}
@@ -0,0 +1,130 @@
+package io.github.rebeca.spaceshooter;
+
+import com.badlogic.gdx.utils.ByteArray;
+
+/**
+ * Graba la entrada de cada tick en un formato binario compacto para poder repetir
+ * la partida con {@link InputReplay}. Una grabacion tiene una cabecera y una o mas
+ * sesiones (una por nivel jugado):
+ * <pre>
+ * cabecera: "SSIR" (int), version (byte), duracion del tick (float)
+ * sesion:   SESSION (byte), nivel (byte), semilla (long)
+ * tick:     flags (byte: bit 0 izquierda, 1 derecha, 2 disparo, 3-5 toques),
+ *           x e y (float) de cada toque
+ * fin:      END (byte), ticks (int), checksum del mundo (int)
+ * </pre>
+ * Un tick sin toques ocupa un byte. Los datos se acumulan en un bloque y se pasan
+ * al {@link Sink} cuando se llena, asi el destino recibe pocas escrituras grandes.
+ */
+public class InputRecorder {
+    public static final int MAGIC = 0x53534952;    // "SSIR"
+    public static final int VERSION = 2;           // Sube si cambia el formato o las reglas de la simulacion
+    public static final int SESSION = 0xFE;
+    public static final int END = 0xFF;
+
+    /** Destino de los bytes grabados (un fichero en escritorio, memoria en pruebas). */
+    public interface Sink {
+        void write(byte[] bytes, int offset, int length);
+        // Entrega al destino lo que el sink aun tenga en su propio buffer
+        default void flush() {}
+        default void close() {}
+    }
+
+    /** Sink en memoria, para bots, benchmarks y pruebas. */
+    public static class MemorySink implements Sink {
+        private final ByteArray bytes = new ByteArray();
+
+        @Override
+        public void write(byte[] data, int offset, int length) {
+            bytes.addAll(data, offset, length);
+        }
+
+        public byte[] toArray() {
+            return bytes.toArray();
+        }
+    }
+
+    private static final int BLOCK_SIZE = 8192;
+
+    private final Sink sink;
+    private final byte[] block = new byte[BLOCK_SIZE];
+    private int position;
+    private boolean inSession;
+    private int ticks;
+
+    public InputRecorder(Sink sink, float step) {
+        this.sink = sink;
+        writeInt(MAGIC);
+        writeByte(VERSION);
+        writeInt(Float.floatToIntBits(step));
+    }
+
+    // Empieza una sesion para el mundo dado, cerrando la anterior si seguia abierta
+    public void beginSession(GameWorld world) {
+        if (inSession) endSession(world);
+        writeByte(SESSION);
+        writeByte(world.getLevelIndex());
+        writeLong(world.getSeed());
+        inSession = true;
+        ticks = 0;
+    }
+
+    public void record(InputState input) {
+        if (!inSession) return;
+        int flags = (input.left ? 1 : 0) | (input.right ? 2 : 0) | (input.fire ? 4 : 0) | (input.touchCount << 3);
+        writeByte(flags);
+        for (int i = 0; i < input.touchCount; i++) {
+            writeInt(Float.floatToIntBits(input.touchX[i]));
+            writeInt(Float.floatToIntBits(input.touchY[i]));
+        }
+        ticks++;
+    }
+
+    // Cierra la sesion guardando el estado final, que la repeticion debe reproducir
+    public void endSession(GameWorld world) {
+        if (!inSession) return;
+        writeByte(END);
+        writeInt(ticks);
+        writeInt(world.checksum());
+        inSession = false;
+    }
+
+    public boolean isInSession() {
+        return inSession;
+    }
+
+    // Pasa todo lo grabado hasta ahora al destino, por ejemplo al terminar una partida
+    public void flush() {
+        writeBlock();
+        sink.flush();
+    }
+
+    public void close() {
+        writeBlock();
+        sink.close();
+    }
+
+    private void writeBlock() {
+        if (position > 0) {
+            sink.write(block, 0, position);
+            position = 0;
+        }
+    }
+
+    private void writeByte(int value) {
+        if (position == BLOCK_SIZE) writeBlock();
+        block[position++] = (byte) value;
+    }
+
+    private void writeInt(int value) {
+        writeByte(value >>> 24);
+        writeByte(value >>> 16);
+        writeByte(value >>> 8);
+        writeByte(value);
+    }
+
+    private void writeLong(long value) {
+        writeInt((int) (value >>> 32));
+        writeInt((int) value);
+    }
+}
@@ -0,0 +1,124 @@
+package io.github.rebeca.spaceshooter;
+
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+/**
+ * Lee una grabacion de {@link InputRecorder} y devuelve la entrada tick a tick.
+ * Uso: {@link #nextSession()} para cada nivel grabado, crear el mundo con
+ * {@link #getLevelIndex()} y {@link #getSeed()}, y llamar a {@link #next} hasta que
+ * devuelva false; entonces {@link #getExpectedChecksum()} tiene el estado final.
+ */
+public class InputReplay {
+    private final byte[] data;
+    private final float step;
+    private int position;
+    private boolean inSession;
+    private final InputState skipped = new InputState();
+
+    private int levelIndex;
+    private long seed;
+    private int ticks;
+    private int expectedTicks;
+    private int expectedChecksum;
+
+    public InputReplay(byte[] data) {
+        this.data = data;
+        if (data.length < 9 || readInt() != InputRecorder.MAGIC) {
+            throw new GdxRuntimeException("Not an input recording");
+        }
+        int version = readByte();
+        if (version != InputRecorder.VERSION) {
+            throw new GdxRuntimeException("Unsupported input recording version: " + version);
+        }
+        step = Float.intBitsToFloat(readInt());
+    }
+
+    // Vuelve al principio para repetir la grabacion otra vez
+    public void rewind() {
+        position = 9;
+        inSession = false;
+    }
+
+    // Duracion del tick con la que se grabo
+    public float getStep() {
+        return step;
+    }
+
+    // Avanza a la siguiente sesion; false si no quedan
+    public boolean nextSession() {
+        // Saltar los ticks que queden de la sesion actual
+        while (inSession && next(skipped)) {}
+        if (position >= data.length) return false;
+        if (readByte() != InputRecorder.SESSION) {
+            throw new GdxRuntimeException("Corrupt input recording at byte " + (position - 1));
+        }
+        inSession = true;
+        levelIndex = readByte();
+        seed = ((long) readInt() << 32) | (readInt() & 0xFFFFFFFFL);
+        ticks = 0;
+        expectedTicks = -1;
+        return true;
+    }
+
+    public int getLevelIndex() { return levelIndex; }
+    public long getSeed() { return seed; }
+    public int getTicks() { return ticks; }
+
+    /**
+     * Escribe en {@code out} la entrada del siguiente tick. Devuelve false al llegar
+     * al final de la sesion (o de los datos, si la grabacion se corto).
+     */
+    public boolean next(InputState out) {
+        if (!inSession) return false;
+        if (position >= data.length) {
+            inSession = false;
+            return false;
+        }
+        int flags = readByte();
+        if (flags == InputRecorder.END) {
+            expectedTicks = readInt();
+            expectedChecksum = readInt();
+            inSession = false;
+            return false;
+        }
+        if (flags == InputRecorder.SESSION) {
+            position--;                      // Sesion sin cierre: la siguiente empieza aqui
+            inSession = false;
+            return false;
+        }
+        out.clear();
+        out.left = (flags & 1) != 0;
+        out.right = (flags & 2) != 0;
+        out.fire = (flags & 4) != 0;
+        int touches = flags >>> 3;
+        for (int i = 0; i < touches; i++) {
+            float x = Float.intBitsToFloat(readInt());
+            float y = Float.intBitsToFloat(readInt());
+            out.addTouch(x, y);
+        }
+        ticks++;
+        return true;
+    }
+
+    // True si la sesion termino con su marca de fin (y por tanto con checksum)
+    public boolean hasExpectedChecksum() {
+        return expectedTicks >= 0;
+    }
+
+    public int getExpectedChecksum() {
+        return expectedChecksum;
+    }
+
+    public int getExpectedTicks() {
+        return expectedTicks;
+    }
+
+    private int readByte() {
+        if (position >= data.length) throw new GdxRuntimeException("Input recording is truncated");
+        return data[position++] & 0xFF;
+    }
+
+    private int readInt() {
+        return (readByte() << 24) | (readByte() << 16) | (readByte() << 8) | readByte();
+    }
+}
@@ -0,0 +1,32 @@
+package io.github.rebeca.spaceshooter;
+
+/**
+ * Entrada del jugador para un tick de simulacion. Las coordenadas de toque ya
+ * estan en unidades del mundo (800x480), no en pixeles de pantalla.
+ */
+public class InputState {
+    public static final int MAX_POINTERS = 5;
+
+    public boolean left;
+    public boolean right;
+    public boolean fire;
+
+    public int touchCount;                    // Numero de toques activos
+    public final float[] touchX = new float[MAX_POINTERS];
+    public final float[] touchY = new float[MAX_POINTERS];
+
+    public void clear() {
+        left = false;
+        right = false;
+        fire = false;
+        touchCount = 0;
+    }
+
+    public void addTouch(float x, float y) {
+        if (touchCount < MAX_POINTERS) {
+            touchX[touchCount] = x;
+            touchY[touchCount] = y;
+            touchCount++;
+        }
+    }
+}
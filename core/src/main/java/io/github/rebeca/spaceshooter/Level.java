@@ -0,0 +1,36 @@
+package io.github.rebeca.spaceshooter;
+
+/** Parametros de un nivel: condiciones de victoria, ritmo de aparicion y velocidades. */
+public class Level {
+    public static final float POWERUP_SPAWN_INTERVAL = 15f;
+
+    public final int victoryObstacles;        // Obstaculos para victoria
+    public final int victoryEnemies;          // Enemigos para victoria
+    public final float victoryTime;           // Tiempo para victoria
+    public final float enemySpawnInterval;    // Intervalo para generar enemigos
+    public final float obstacleSpawnInterval; // Intervalo para generar obstaculos
+    public final float enemySpeed;            // Velocidad de los enemigos
+    public final float obstacleSpeed;         // Velocidad de los obstaculos
+    public final String name;                 // Nombre del nivel
+    public final SpawnStream[] spawns;        // Todas las fuentes de apariciones del nivel
+
+    // Ademas de enemigos, obstaculos y power-ups periodicos, acepta oleadas y eventos extra
+    public Level(int victoryObstacles, int victoryEnemies, float victoryTime,
+                 float enemySpawnInterval, float obstacleSpawnInterval,
+                 float enemySpeed, float obstacleSpeed, String name, SpawnStream... extraSpawns) {
+        this.victoryObstacles = victoryObstacles;
+        this.victoryEnemies = victoryEnemies;
+        this.victoryTime = victoryTime;
+        this.enemySpawnInterval = enemySpawnInterval;
+        this.obstacleSpawnInterval = obstacleSpawnInterval;
+        this.enemySpeed = enemySpeed;
+        this.obstacleSpeed = obstacleSpeed;
+        this.name = name;
+
+        spawns = new SpawnStream[3 + extraSpawns.length];
+        spawns[0] = SpawnStream.every(GameWorld.EntityKind.ENEMY, enemySpawnInterval);
+        spawns[1] = SpawnStream.every(GameWorld.EntityKind.OBSTACLE, obstacleSpawnInterval);
+        spawns[2] = SpawnStream.every(GameWorld.EntityKind.POWERUP, POWERUP_SPAWN_INTERVAL);
+        System.arraycopy(extraSpawns, 0, spawns, 3, extraSpawns.length);
+    }
+}
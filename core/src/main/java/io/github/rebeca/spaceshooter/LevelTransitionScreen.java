@@ -30,13 +30,20 @@ public class LevelTransitionScreen implements Screen {
     // Temporizador para controlar duracion de la pantalla
     private float timer = 0f;
 
-    // Tiempo que dura la transicion en segundos
-    private final float displayTime = 3f;
+    // Tiempo que dura la transicion en segundos. Desde el titulo (primer nivel) solo
+    // se espera a que la pantalla de juego este lista
+    private final float displayTime;
+
+    private boolean loaded = false;          // Recursos del juego listos
+    private boolean prepared = false;        // Pantalla de juego creada y reiniciada en el nivel
+    private boolean drawn = false;           // Ya se dibujo al menos un frame
+    private final StringBuilder progressText = new StringBuilder(16);
 
     // Constructor que recibe el juego y el numero de nivel
     public LevelTransitionScreen(Game game, int levelNumber) {
         this.game = game;
         this.levelNumber = levelNumber;
+        this.displayTime = levelNumber == 0 ? 0f : 3f;
     }
 
     @Override
@@ -47,12 +54,14 @@ public class LevelTransitionScreen implements Screen {
         // Desactivar la entrada del usuario durante la transicion
         Gdx.input.setInputProcessor(null);
 
-        // Cargar la imagen de fondo
-        background = new Texture(Gdx.files.internal("ui/MainMenu/background.png"));
+        // Pedir la imagen de fondo y la fuente compartidas
+        Assets assets = ((Main) game).assets;
+        background = assets.borrowTexture(Assets.BACKGROUND);
+        font = assets.borrowFont();
 
-        // Cargar la fuente y ajustar su tamano
-        font = new BitmapFont(Gdx.files.internal("fonts/audiowide.fnt"));
-        font.getData().setScale(1f); // Puedes cambiar este valor para aumentar o reducir el tamano
+        // Empezar a cargar en segundo plano lo que necesita la pantalla de juego; si ya
+        // esta en memoria (entre niveles) no queda nada en cola
+        assets.preloadGameplay();
     }
 
     @Override
@@ -60,6 +69,17 @@ public class LevelTransitionScreen implements Screen {
         // Sumar el tiempo transcurrido
         timer += delta;
 
+        // Avanzar la carga de recursos sin bloquear el frame. Despues, con al menos un
+        // frame ya en pantalla, preparar la de juego: la primera vez crea el batch, los
+        // shaders y las mallas, y entre niveles solo reinicia el mundo que ya tiene
+        Assets assets = ((Main) game).assets;
+        if (!loaded) {
+            loaded = assets.update();
+        } else if (!prepared && drawn) {
+            ((Main) game).prepareGame(levelNumber);
+            prepared = true;
+        }
+
         // Limpiar la pantalla con color negro
         Gdx.gl.glClearColor(0, 0, 0, 1);
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
@@ -78,13 +98,25 @@ public class LevelTransitionScreen implements Screen {
             Gdx.graphics.getHeight() / 2f,
             0, Align.center, false);
 
+        // Progreso de carga debajo del numero de nivel, mientras quede algo por preparar
+        if (!prepared) {
+            progressText.setLength(0);
+            progressText.append("LOADING ").append((int) (assets.getProgress() * 100)).append('%');
+            font.getData().setScale(0.4f);
+            font.draw(stage.getBatch(), progressText,
+                Gdx.graphics.getWidth() / 2f,
+                Gdx.graphics.getHeight() / 2f - 60,
+                0, Align.center, false);
+            font.getData().setScale(1f);         // La fuente es compartida: dejarla como estaba
+        }
+
         // Terminar de dibujar
         stage.getBatch().end();
+        drawn = true;
 
-        // Si el tiempo ha pasado, cambiar a la pantalla del juego
-        if (timer >= displayTime) {
-            game.setScreen(new GameScreen(game, levelNumber));
-            dispose();
+        // Cambiar a la pantalla del juego cuando pase el tiempo y todo este preparado
+        if (timer >= displayTime && prepared) {
+            ((Main) game).showPreparedGame();
         }
     }
 
@@ -102,7 +134,8 @@ public class LevelTransitionScreen implements Screen {
     @Override
     public void dispose() {
         stage.dispose();
-        font.dispose();
-        background.dispose();
+        Assets assets = ((Main) game).assets;
+        assets.release(Assets.FONT);
+        assets.release(Assets.BACKGROUND);
     }
 }
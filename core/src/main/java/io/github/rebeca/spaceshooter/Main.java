@@ -2,23 +2,54 @@ package io.github.rebeca.spaceshooter;
 
 import com.badlogic.gdx.Game;
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.utils.Array;
 
-/** {@link com.badlogic.gdx.ApplicationListener} implementation shared by all platforms. */
+/**
+ * {@link com.badlogic.gdx.ApplicationListener} implementation shared by all platforms.
+ * <p>
+ * Tambien gestiona el ciclo de vida de las pantallas: la pantalla que se abandona
+ * se libera al comienzo del siguiente frame, y la {@link GameScreen} se guarda y se
+ * reinicia en lugar de crear una nueva en cada partida.
+ */
 public class Main extends Game {
+    public Assets assets;                    // Recursos compartidos entre pantallas
+    public CollisionMasks masks;             // Mascaras de pixeles de los sprites del atlas de juego
     public Music background;
     public Music gameOverMusic;
     public Sound laserSound;
+    public AudioManager audio;               // Limita las voces de los efectos de sonido
+    public int laserSoundId;
+    public Telemetry telemetry = Telemetry.NONE;  // El lanzador de escritorio instala eventos JFR
+    public InputRecorder recorder;           // Si no es null, graba la entrada de cada partida
+    public InputReplay replay;               // Si no es null, se repite esta grabacion en vez del menu
+    public boolean bulletStress;             // Medir cuantas balas enemigas aguanta a 60 fps y salir
+    public SystemRunner systemRunner = SystemRunner.SEQUENTIAL;  // Como corren los sistemas del mundo
+    public StatsJournal stats = new StatsJournal.Memory();       // El lanzador de escritorio guarda en disco
+    public RunStats clearedLevels;           // Suma de los niveles ya superados en la partida en curso, o null
 
+    private GameScreen gameScreen;           // Pantalla de juego reutilizable
+    private final Array<Screen> retired = new Array<>();  // Pantallas pendientes de liberar
 
     @Override
     public void create() {
+        assets = new Assets();
+        assets.setTelemetry(telemetry);
+        masks = new CollisionMasks(Gdx.files.internal(Assets.GAMEPLAY_ATLAS));
+
         // Carga los archivos de sonido
         background = Gdx.audio.newMusic(Gdx.files.internal("sounds/backgroundMusic.ogg"));
         gameOverMusic = Gdx.audio.newMusic(Gdx.files.internal("sounds/gameover.mp3"));
         laserSound = Gdx.audio.newSound(Gdx.files.internal("sounds/laser.ogg"));
 
+        // Laser: dura 1.2 s, como mucho 4 a la vez y no mas de uno cada 50 ms
+        audio = new AudioManager();
+        laserSoundId = audio.register(laserSound, 4, 0.05f, 1, 1.22f);
+
         // Configuramos musica de fondo
         background.setLooping(true); // true para que se repita continuamente
         gameOverMusic.setLooping(false); // false para que la musica de gameover no se repita
@@ -27,17 +58,121 @@ public class Main extends Game {
         background.setVolume(0.5f);
         gameOverMusic.setVolume(0.5f);
 
+        if (replay != null) {
+            // Repetir una grabacion directamente en la pantalla de juego
+            showGame(0);
+            gameScreen.startReplay(replay);
+            return;
+        }
+        if (bulletStress) {
+            showGame(0);
+            gameScreen.startBulletStress();
+            return;
+        }
+
         // Establece la pantalla inicial del juego (pantalla de título)
         setScreen(new TitleScreen(this));
     }
 
+    /**
+     * Cambia de pantalla y deja la anterior pendiente de liberar. No se libera en el
+     * momento porque el cambio suele pedirse desde dentro de su propio render (por
+     * ejemplo en un click del Stage), que aun tiene que terminar de dibujar.
+     */
+    @Override
+    public void setScreen(Screen screen) {
+        Screen previous = getScreen();
+        super.setScreen(screen);
+        telemetry.screenChanged(previous, screen);
+        if (previous != null && previous != screen && previous != gameScreen) {
+            retired.add(previous);
+        }
+    }
+
+    // Empieza una partida en el nivel indicado reutilizando la pantalla de juego
+    public void showGame(int levelIndex) {
+        prepareGame(levelIndex);
+        setScreen(gameScreen);
+    }
+
+    /**
+     * Deja la pantalla de juego lista en el nivel indicado sin mostrarla, para que la
+     * pantalla de transicion pague su creacion (la primera vez) mientras se ve en
+     * pantalla. Las siguientes veces solo reinicia el mundo que ya tiene.
+     */
+    public void prepareGame(int levelIndex) {
+        if (levelIndex == 0) clearedLevels = null;   // Toda partida nueva empieza en el primer nivel
+        if (gameScreen == null) {
+            gameScreen = new GameScreen(this, levelIndex);
+        } else {
+            gameScreen.restart(levelIndex);
+        }
+    }
+
+    // Muestra la pantalla preparada con prepareGame
+    public void showPreparedGame() {
+        setScreen(gameScreen);
+    }
+
+    @Override
+    public void render() {
+        telemetry.frameBegin();
+        disposeRetired();
+        super.render();
+        audio.update(Gdx.graphics.getDeltaTime());  // Lanzar los sonidos pedidos en este frame
+        telemetry.frameEnd(screen);
+    }
+
+    private void disposeRetired() {
+        for (int i = 0; i < retired.size; i++) {
+            retired.get(i).dispose();
+        }
+        retired.clear();
+    }
+
+    // Contadores de recursos vivos, para detectar fugas en pruebas largas
+
+    // Pantallas que siguen en memoria: la actual, la de juego guardada y las pendientes de liberar
+    public int getLiveScreenCount() {
+        int count = retired.size;
+        if (screen != null) count++;
+        if (gameScreen != null && gameScreen != screen) count++;
+        return count;
+    }
+
+    public int getLiveTextureCount() {
+        return Texture.getNumManagedTextures();
+    }
+
+    // Cada SpriteBatch (tambien el de cada Stage) crea su propio shader, asi que
+    // este numero sigue a los batches vivos
+    public int getLiveShaderCount() {
+        return ShaderProgram.getNumManagedShaderPrograms();
+    }
+
+    public int getLoadedAssetCount() {
+        return assets.getLoadedCount();
+    }
+
     @Override
     public void dispose() {
         // Libera los recursos de musica y sonido cuando se destruye el juego
+        audio.stopAll();
         background.dispose();
         gameOverMusic.dispose();
         laserSound.dispose();
-        super.dispose();
+        super.dispose();                     // Solo oculta la pantalla actual
+
+        // Liberar todas las pantallas que quedan antes que los recursos compartidos
+        disposeRetired();
+        if (screen != null && screen != gameScreen) screen.dispose();
+        if (gameScreen != null) gameScreen.dispose();
+        screen = null;
+        gameScreen = null;
+        if (recorder != null) recorder.close();
+        stats.close();
+        assets.dispose();
+        masks.dispose();
     }
 
     // Metodo para detener toda la musica que se este reproduciendo para evitar que suenen simultaneamente
@@ -0,0 +1,57 @@
+package io.github.rebeca.spaceshooter;
+
+import com.badlogic.gdx.utils.TimeUtils;
+
+/**
+ * Repite una grabacion solo con la simulacion, sin dibujar ni esperar al reloj,
+ * tan rapido como permita la CPU. Comprueba que cada sesion termina con el mismo
+ * estado que se grabo, asi sirve como carga de rendimiento y como prueba de
+ * determinismo entre plataformas.
+ */
+public class ReplayRunner {
+    /** Resultado de una repeticion completa. */
+    public static class Result {
+        public int sessions;
+        public long ticks;
+        public int mismatches;              // Sesiones cuyo estado final no coincide
+        public long nanos;
+
+        public double ticksPerSecond() {
+            return nanos > 0 ? ticks * 1e9 / nanos : 0;
+        }
+
+        @Override
+        public String toString() {
+            return sessions + " sessions, " + ticks + " ticks, " + mismatches + " mismatches, "
+                + (long) ticksPerSecond() + " ticks/s";
+        }
+    }
+
+    private final GameWorld world = new GameWorld(0, 0);
+    private final InputState input = new InputState();
+
+    // Las mismas mascaras de colision que la partida grabada; sin ellas no coincide
+    public void setMasks(CollisionMasks masks) {
+        world.setMasks(masks);
+    }
+
+    public Result run(InputReplay replay) {
+        Result result = new Result();
+        float step = replay.getStep();
+        replay.rewind();
+        long start = TimeUtils.nanoTime();
+        while (replay.nextSession()) {
+            world.reset(replay.getLevelIndex(), replay.getSeed());
+            while (replay.next(input)) {
+                world.step(input, step);
+            }
+            result.sessions++;
+            result.ticks += replay.getTicks();
+            if (replay.hasExpectedChecksum() && world.checksum() != replay.getExpectedChecksum()) {
+                result.mismatches++;
+            }
+        }
+        result.nanos = TimeUtils.nanoTime() - start;
+        return result;
+    }
+}
@@ -0,0 +1,67 @@
+package io.github.rebeca.spaceshooter;
+
+import java.util.Arrays;
+
+/**
+ * Ventana deslizante con las ultimas muestras de una medida (tiempos en
+ * nanosegundos o contadores). Calcula minimo, media y percentil 99 sobre la
+ * ventana sin crear objetos.
+ */
+public final class RollingStats {
+    private final long[] samples;
+    private final long[] sorted;              // Copia ordenada para el percentil
+    private int count;
+    private int next;
+    private long last;
+
+    public RollingStats(int window) {
+        samples = new long[window];
+        sorted = new long[window];
+    }
+
+    public void add(long value) {
+        samples[next] = value;
+        next = (next + 1) % samples.length;
+        if (count < samples.length) count++;
+        last = value;
+    }
+
+    public void clear() {
+        count = 0;
+        next = 0;
+        last = 0;
+    }
+
+    public int getCount() { return count; }
+    public long getLast() { return last; }
+
+    public long min() {
+        if (count == 0) return 0;
+        long min = Long.MAX_VALUE;
+        for (int i = 0; i < count; i++) min = Math.min(min, samples[i]);
+        return min;
+    }
+
+    public long max() {
+        if (count == 0) return 0;
+        long max = Long.MIN_VALUE;
+        for (int i = 0; i < count; i++) max = Math.max(max, samples[i]);
+        return max;
+    }
+
+    public double average() {
+        if (count == 0) return 0;
+        long sum = 0;
+        for (int i = 0; i < count; i++) sum += samples[i];
+        return (double) sum / count;
+    }
+
+    // Percentil 99: el valor que solo supera el 1% de las muestras
+    public long p99() {
+        if (count == 0) return 0;
+        System.arraycopy(samples, 0, sorted, 0, count);
+        Arrays.sort(sorted, 0, count);
+        int index = (int) Math.ceil(count * 0.99) - 1;
+        return sorted[Math.max(0, Math.min(index, count - 1))];
+    }
+}
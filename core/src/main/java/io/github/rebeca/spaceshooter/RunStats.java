@@ -0,0 +1,58 @@
+package io.github.rebeca.spaceshooter;
+
+import com.badlogic.gdx.utils.TimeUtils;
+
+/**
+ * Resultado de una partida terminada, tal como lo guarda el {@link StatsJournal}.
+ * Una partida va del primer nivel hasta perder o ganar el ultimo; tiempo, obstaculos
+ * y enemigos son la suma de todos sus niveles.
+ */
+public final class RunStats {
+    public final long timestamp;              // Milisegundos desde 1970
+    public final int levelIndex;              // Nivel en que termino, desde 0
+    public final boolean victory;             // Gano el ultimo nivel
+    public final float timeElapsed;
+    public final int obstaclesPassed;
+    public final int enemiesDefeated;
+    public final int score;
+
+    public RunStats(long timestamp, int levelIndex, boolean victory, float timeElapsed,
+                    int obstaclesPassed, int enemiesDefeated) {
+        this.timestamp = timestamp;
+        this.levelIndex = levelIndex;
+        this.victory = victory;
+        this.timeElapsed = timeElapsed;
+        this.obstaclesPassed = obstaclesPassed;
+        this.enemiesDefeated = enemiesDefeated;
+        score = score(getLevelsCleared(), obstaclesPassed, enemiesDefeated);
+    }
+
+    // El nivel que acaba de terminar en el mundo dado, sumado a los anteriores de la
+    // misma partida (null si es el primero)
+    public static RunStats of(GameWorld world, RunStats previousLevels) {
+        float timeElapsed = world.getTimeElapsed();
+        int obstaclesPassed = world.getObstaclesPassed();
+        int enemiesDefeated = world.getEnemiesDefeated();
+        if (previousLevels != null) {
+            timeElapsed += previousLevels.timeElapsed;
+            obstaclesPassed += previousLevels.obstaclesPassed;
+            enemiesDefeated += previousLevels.enemiesDefeated;
+        }
+        return new RunStats(TimeUtils.millis(), world.getLevelIndex(), world.getOutcome() == GameWorld.Outcome.VICTORY,
+            timeElapsed, obstaclesPassed, enemiesDefeated);
+    }
+
+    // Cada nivel superado vale 1000 puntos, cada enemigo 100 y cada obstaculo 10
+    public static int score(int levelsCleared, int obstaclesPassed, int enemiesDefeated) {
+        return levelsCleared * 1000 + enemiesDefeated * 100 + obstaclesPassed * 10;
+    }
+
+    public int getLevelsCleared() {
+        return levelIndex + (victory ? 1 : 0);
+    }
+
+    // Orden de la tabla de records: mas puntos primero y, a igualdad, la partida mas antigua
+    public boolean ranksAbove(RunStats other) {
+        return score != other.score ? score > other.score : timestamp < other.timestamp;
+    }
+}
@@ -0,0 +1,95 @@
+package io.github.rebeca.spaceshooter;
+
+/**
+ * Linea de tiempo de apariciones: guarda en un monticulo binario la proxima
+ * aparicion de cada {@link SpawnStream} y en cada tick solo visita las que ya
+ * tocan. Un tick sin apariciones cuesta una comparacion, tenga el nivel las fuentes
+ * que tenga. Si un tick es largo se lanzan todas las apariciones pendientes, cada
+ * una con el retraso que lleva para que la entidad salga donde ya deberia estar.
+ */
+public final class SpawnScheduler {
+    /** Recibe cada aparicion; {@code lag} es cuanto tiempo paso desde su momento. */
+    public interface Target {
+        void spawn(GameWorld.EntityKind kind, int count, float lag);
+    }
+
+    private SpawnStream[] streams = new SpawnStream[0];
+    private double[] nextTime = new double[0];  // Proxima aparicion de cada fuente
+    private int[] fired = new int[0];           // Apariciones ya lanzadas de cada fuente
+    private int[] heap = new int[0];            // Indices de fuentes ordenados por nextTime
+    private int heapSize;
+    private double time;
+
+    // Empieza de cero con las fuentes del nivel
+    public void reset(SpawnStream[] streams) {
+        this.streams = streams;
+        int n = streams.length;
+        if (nextTime.length < n) {
+            nextTime = new double[n];
+            fired = new int[n];
+            heap = new int[n];
+        }
+        time = 0;
+        heapSize = 0;
+        for (int i = 0; i < n; i++) {
+            nextTime[i] = streams[i].start;
+            fired[i] = 0;
+            push(i);
+        }
+    }
+
+    // Avanza el reloj y lanza en orden todas las apariciones que ya tocan
+    public void advance(float delta, Target target) {
+        time += delta;
+        while (heapSize > 0 && nextTime[heap[0]] <= time) {
+            int stream = heap[0];
+            SpawnStream spawn = streams[stream];
+            target.spawn(spawn.kind, spawn.count, (float) (time - nextTime[stream]));
+            fired[stream]++;
+
+            if ((spawn.repeats == 0 || fired[stream] < spawn.repeats) && spawn.interval > 0) {
+                nextTime[stream] += spawn.interval;
+                siftDown(0);                   // La misma fuente vuelve a su sitio
+            } else {
+                heap[0] = heap[--heapSize];    // Fuente agotada
+                siftDown(0);
+            }
+        }
+    }
+
+    public double getTime() { return time; }
+    public int getPendingStreams() { return heapSize; }
+
+    private void push(int stream) {
+        int i = heapSize++;
+        heap[i] = stream;
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (!before(heap[i], heap[parent])) break;
+            swap(i, parent);
+            i = parent;
+        }
+    }
+
+    private void siftDown(int i) {
+        while (true) {
+            int left = 2 * i + 1;
+            if (left >= heapSize) return;
+            int child = left + 1 < heapSize && before(heap[left + 1], heap[left]) ? left + 1 : left;
+            if (!before(heap[child], heap[i])) return;
+            swap(i, child);
+            i = child;
+        }
+    }
+
+    // Orden por tiempo; a igual tiempo, por orden de declaracion para que sea determinista
+    private boolean before(int a, int b) {
+        return nextTime[a] < nextTime[b] || (nextTime[a] == nextTime[b] && a < b);
+    }
+
+    private void swap(int i, int j) {
+        int tmp = heap[i];
+        heap[i] = heap[j];
+        heap[j] = tmp;
+    }
+}
@@ -0,0 +1,33 @@
+package io.github.rebeca.spaceshooter;
+
+/**
+ * Una fuente de apariciones de un nivel: a partir de {@code start} segundos crea
+ * {@code count} entidades de un tipo cada {@code interval} segundos, {@code repeats}
+ * veces (0 para siempre). Con {@code count > 1} las entidades salen en formacion,
+ * repartidas a lo ancho de la pantalla.
+ */
+public class SpawnStream {
+    public final GameWorld.EntityKind kind;
+    public final float start;                 // Primera aparicion
+    public final float interval;              // Tiempo entre apariciones
+    public final int repeats;                 // Veces que aparece; 0 sin limite
+    public final int count;                   // Entidades en cada aparicion
+
+    public SpawnStream(GameWorld.EntityKind kind, float start, float interval, int repeats, int count) {
+        this.kind = kind;
+        this.start = start;
+        this.interval = interval;
+        this.repeats = repeats;
+        this.count = count;
+    }
+
+    // Una entidad cada intervalo, empezando tras el primer intervalo
+    public static SpawnStream every(GameWorld.EntityKind kind, float interval) {
+        return new SpawnStream(kind, interval, interval, 0, 1);
+    }
+
+    // Oleada unica de varias entidades en el segundo indicado
+    public static SpawnStream wave(GameWorld.EntityKind kind, float time, int count) {
+        return new SpawnStream(kind, time, 0, 1, count);
+    }
+}
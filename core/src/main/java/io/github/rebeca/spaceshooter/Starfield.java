@@ -0,0 +1,136 @@
+package io.github.rebeca.spaceshooter;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Mesh;
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.VertexAttributes;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.utils.Disposable;
+
+/**
+ * Campo de estrellas con paralaje en una sola malla estatica. Los vertices se
+ * generan una vez al crearlo; cada frame solo cambia el uniforme de
+ * desplazamiento y el shader mueve cada estrella segun la velocidad de su capa,
+ * repitiendo con {@code mod} al salir por abajo. Se dibuja en una sola llamada.
+ * <p>
+ * Cada capa avanza un numero entero de alturas por cada {@code height} * 2 de
+ * desplazamiento, asi que quien lo use puede volver el desplazamiento a cero en
+ * ese periodo sin que se note el salto.
+ */
+public class Starfield implements Disposable {
+    // Velocidad relativa al fondo y brillo de cada capa, de la mas lejana a la mas cercana
+    private static final float[] LAYER_SPEEDS = {1.5f, 2f, 3f};
+    private static final float[] LAYER_SIZES = {1f, 2f, 3f};
+    private static final float[] LAYER_ALPHAS = {0.45f, 0.7f, 1f};
+
+    private static final int FLOATS_PER_VERTEX = 6;   // x, y, esquina x, esquina y, velocidad, alfa
+
+    private static final String VERTEX_SHADER =
+        "attribute vec2 a_position;\n"
+            + "attribute vec2 a_corner;\n"
+            + "attribute vec2 a_layer;\n"
+            + "uniform mat4 u_projTrans;\n"
+            + "uniform float u_offset;\n"
+            + "uniform float u_height;\n"
+            + "varying float v_alpha;\n"
+            + "void main() {\n"
+            + "   float y = mod(a_position.y - u_offset * a_layer.x, u_height) - 4.0;\n"
+            + "   v_alpha = a_layer.y;\n"
+            + "   gl_Position = u_projTrans * vec4(a_position.x + a_corner.x, y + a_corner.y, 0.0, 1.0);\n"
+            + "}\n";
+
+    private static final String FRAGMENT_SHADER =
+        "#ifdef GL_ES\n"
+            + "precision mediump float;\n"
+            + "#endif\n"
+            + "varying float v_alpha;\n"
+            + "void main() {\n"
+            + "   gl_FragColor = vec4(0.85, 0.9, 1.0, v_alpha);\n"
+            + "}\n";
+
+    private final Mesh mesh;
+    private final ShaderProgram shader;
+    private final int projectionLocation;
+    private final int offsetLocation;
+    private final int heightLocation;
+    private final float height;
+
+    /**
+     * @param count  estrellas en total, repartidas entre las capas
+     * @param width  ancho del area a cubrir
+     * @param height altura de repeticion; debe ser algo mayor que la pantalla
+     * @param seed   semilla de las posiciones, para que el cielo sea siempre el mismo
+     */
+    public Starfield(int count, float width, float height, long seed) {
+        this.height = height;
+
+        // Cuatro vertices y dos triangulos por estrella; los indices son short
+        if (count * 4 > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("Demasiadas estrellas: " + count);
+        }
+        float[] vertices = new float[count * 4 * FLOATS_PER_VERTEX];
+        short[] indices = new short[count * 6];
+        RandomXS128 random = new RandomXS128(seed);
+        int v = 0;
+        for (int i = 0; i < count; i++) {
+            int layer = i % LAYER_SPEEDS.length;
+            float x = random.nextFloat() * width;
+            float y = random.nextFloat() * height;
+            float half = LAYER_SIZES[layer] / 2;
+            for (int corner = 0; corner < 4; corner++) {
+                vertices[v++] = x;
+                vertices[v++] = y;
+                vertices[v++] = corner == 0 || corner == 3 ? -half : half;
+                vertices[v++] = corner < 2 ? -half : half;
+                vertices[v++] = LAYER_SPEEDS[layer];
+                vertices[v++] = LAYER_ALPHAS[layer];
+            }
+            int base = i * 4;
+            int n = i * 6;
+            indices[n] = (short) base;
+            indices[n + 1] = (short) (base + 1);
+            indices[n + 2] = (short) (base + 2);
+            indices[n + 3] = (short) (base + 2);
+            indices[n + 4] = (short) (base + 3);
+            indices[n + 5] = (short) base;
+        }
+
+        mesh = new Mesh(true, count * 4, count * 6, new VertexAttributes(
+            new VertexAttribute(VertexAttributes.Usage.Position, 2, "a_position"),
+            new VertexAttribute(VertexAttributes.Usage.Generic, 2, "a_corner"),
+            new VertexAttribute(VertexAttributes.Usage.Generic, 2, "a_layer")));
+        mesh.setVertices(vertices);
+        mesh.setIndices(indices);
+
+        shader = new ShaderProgram(VERTEX_SHADER, FRAGMENT_SHADER);
+        if (!shader.isCompiled()) {
+            mesh.dispose();
+            throw new IllegalStateException("Error compiling starfield shader: " + shader.getLog());
+        }
+        projectionLocation = shader.getUniformLocation("u_projTrans");
+        offsetLocation = shader.getUniformLocation("u_offset");
+        heightLocation = shader.getUniformLocation("u_height");
+    }
+
+    // Dibuja todas las estrellas con mezcla aditiva; no debe haber un batch abierto
+    public void render(Matrix4 projection, float offset) {
+        GL20 gl = Gdx.gl;
+        gl.glEnable(GL20.GL_BLEND);
+        gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE);
+        shader.bind();
+        shader.setUniformMatrix(projectionLocation, projection);
+        shader.setUniformf(offsetLocation, offset);
+        shader.setUniformf(heightLocation, height);
+        mesh.render(shader, GL20.GL_TRIANGLES);
+        gl.glDisable(GL20.GL_BLEND);
+    }
+
+    @Override
+    public void dispose() {
+        mesh.dispose();
+        shader.dispose();
+    }
+}
@@ -0,0 +1,32 @@
+package io.github.rebeca.spaceshooter;
+
+/**
+ * Diario de partidas terminadas. {@link #record} se llama desde el hilo de render y
+ * no debe bloquear nunca. Las consultas van contra un {@link StatsSummary} en
+ * memoria (totales y tabla de records), cuyo tamaño no depende del numero de
+ * partidas. El lanzador de escritorio instala un diario en disco; Android, iOS y
+ * GWT usan {@link Memory}, que se pierde al cerrar el juego.
+ */
+public interface StatsJournal {
+    void record(RunStats run);
+
+    StatsSummary getSummary();
+
+    // Termina de guardar lo pendiente
+    default void close() {}
+
+    /** Diario solo en memoria. */
+    class Memory implements StatsJournal {
+        private final StatsSummary summary = new StatsSummary();
+
+        @Override
+        public void record(RunStats run) {
+            summary.add(run);
+        }
+
+        @Override
+        public StatsSummary getSummary() {
+            return summary;
+        }
+    }
+}
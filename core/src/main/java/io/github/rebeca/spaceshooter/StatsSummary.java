@@ -0,0 +1,108 @@
+package io.github.rebeca.spaceshooter;
+
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * Totales de todas las partidas y tabla de las {@link #TOP_SIZE} mejores. La tabla
+ * es un monticulo minimo acotado: la peor de las guardadas esta en la raiz, asi que
+ * cada partida nueva cuesta O(log TOP_SIZE) y el tamaño no crece con el numero de
+ * partidas. No es seguro entre hilos; cada hilo usa su propia instancia.
+ */
+public class StatsSummary {
+    public static final int TOP_SIZE = 10;
+
+    private final RunStats[] top = new RunStats[TOP_SIZE];
+    private int topCount;
+    private long runs;
+    private long victories;
+    private double timePlayed;
+    private long obstaclesPassed;
+    private long enemiesDefeated;
+    private int bestLevelsCleared;
+    private RunStats last;                    // Ultima partida sumada, null si no hay
+
+    public void add(RunStats run) {
+        runs++;
+        if (run.victory) victories++;
+        timePlayed += run.timeElapsed;
+        obstaclesPassed += run.obstaclesPassed;
+        enemiesDefeated += run.enemiesDefeated;
+        bestLevelsCleared = Math.max(bestLevelsCleared, run.getLevelsCleared());
+        last = run;
+        offerTop(run);
+    }
+
+    // Restaura los totales guardados; la tabla se rellena despues con offerTop
+    public void setTotals(long runs, long victories, double timePlayed, long obstaclesPassed, long enemiesDefeated,
+                          int bestLevelsCleared) {
+        this.runs = runs;
+        this.victories = victories;
+        this.timePlayed = timePlayed;
+        this.obstaclesPassed = obstaclesPassed;
+        this.enemiesDefeated = enemiesDefeated;
+        this.bestLevelsCleared = bestLevelsCleared;
+    }
+
+    // Copia otro resumen entero
+    public void set(StatsSummary other) {
+        setTotals(other.runs, other.victories, other.timePlayed, other.obstaclesPassed, other.enemiesDefeated,
+            other.bestLevelsCleared);
+        System.arraycopy(other.top, 0, top, 0, TOP_SIZE);
+        topCount = other.topCount;
+        last = other.last;
+    }
+
+    // Mete la partida en la tabla si cabe o supera a la peor guardada
+    public void offerTop(RunStats run) {
+        if (topCount < TOP_SIZE) {
+            int i = topCount++;
+            // Subir mientras el padre quede por encima en la tabla
+            while (i > 0 && top[(i - 1) / 2].ranksAbove(run)) {
+                top[i] = top[(i - 1) / 2];
+                i = (i - 1) / 2;
+            }
+            top[i] = run;
+        } else if (run.ranksAbove(top[0])) {
+            int i = 0;
+            // Bajar por el hijo que quede mas abajo en la tabla
+            while (true) {
+                int child = 2 * i + 1;
+                if (child >= topCount) break;
+                if (child + 1 < topCount && top[child].ranksAbove(top[child + 1])) child++;
+                if (!run.ranksAbove(top[child])) break;
+                top[i] = top[child];
+                i = child;
+            }
+            top[i] = run;
+        }
+    }
+
+    // Las mejores partidas, de mejor a peor
+    public Array<RunStats> getTop(Array<RunStats> out) {
+        out.clear();
+        for (int i = 0; i < topCount; i++) out.add(top[i]);
+        out.sort((a, b) -> a.ranksAbove(b) ? -1 : (b.ranksAbove(a) ? 1 : 0));
+        return out;
+    }
+
+    // Mejor partida, o null si no hay ninguna
+    public RunStats getBest() {
+        RunStats best = null;
+        for (int i = 0; i < topCount; i++) {
+            if (best == null || top[i].ranksAbove(best)) best = top[i];
+        }
+        return best;
+    }
+
+    // Entradas de la tabla en el orden del monticulo, para guardarlas
+    public int getTopCount() { return topCount; }
+    public RunStats getTopEntry(int i) { return top[i]; }
+
+    public long getRuns() { return runs; }
+    public long getVictories() { return victories; }
+    public double getTimePlayed() { return timePlayed; }
+    public long getObstaclesPassed() { return obstaclesPassed; }
+    public long getEnemiesDefeated() { return enemiesDefeated; }
+    public int getBestLevelsCleared() { return bestLevelsCleared; }
+    public RunStats getLast() { return last; }
+}
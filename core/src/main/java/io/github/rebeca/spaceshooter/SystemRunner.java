@@ -0,0 +1,16 @@
+package io.github.rebeca.spaceshooter;
+
+/**
+ * Ejecuta una etapa de {@link SystemScheduler}: un grupo de sistemas que no chocan
+ * entre si y pueden correr en cualquier orden o a la vez. El nucleo solo trae la
+ * version secuencial porque tambien se compila con GWT; el lanzador de escritorio
+ * puede instalar uno con hilos.
+ */
+public interface SystemRunner {
+    void run(WorldSystem[] stage, int count, float delta, GameWorld.PhaseListener phases);
+
+    /** Uno detras de otro en el hilo que llama. */
+    SystemRunner SEQUENTIAL = (stage, count, delta, phases) -> {
+        for (int i = 0; i < count; i++) stage[i].run(delta, phases);
+    };
+}
@@ -0,0 +1,84 @@
+package io.github.rebeca.spaceshooter;
+
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * Reparte los sistemas del tick en etapas. Cada sistema va en la primera etapa
+ * posterior a la de cualquier sistema anterior con el que choque, asi que el
+ * resultado es el mismo que ejecutarlos en el orden en que se agregaron. Las
+ * etapas se ejecutan en orden; dentro de una etapa, el {@link SystemRunner}
+ * decide si los sistemas corren uno tras otro o en paralelo.
+ */
+public final class SystemScheduler {
+    private final Array<WorldSystem> systems = new Array<>();
+    private WorldSystem[][] stages = new WorldSystem[0][];
+    private int[] stageSizes = new int[0];
+    private boolean dirty;
+    private SystemRunner runner = SystemRunner.SEQUENTIAL;
+
+    public void add(WorldSystem system) {
+        systems.add(system);
+        dirty = true;
+    }
+
+    public void setRunner(SystemRunner runner) {
+        this.runner = runner != null ? runner : SystemRunner.SEQUENTIAL;
+    }
+
+    public SystemRunner getRunner() {
+        return runner;
+    }
+
+    // Ejecuta un tick completo, etapa por etapa
+    public void run(float delta, GameWorld.PhaseListener phases) {
+        if (dirty) build();
+        for (int s = 0; s < stages.length; s++) {
+            if (stageSizes[s] == 1) {
+                stages[s][0].run(delta, phases);  // Nada que repartir
+            } else {
+                runner.run(stages[s], stageSizes[s], delta, phases);
+            }
+        }
+    }
+
+    public int getStageCount() {
+        if (dirty) build();
+        return stages.length;
+    }
+
+    // Sistemas de una etapa, en el orden en que se agregaron
+    public int getStageSize(int stage) {
+        if (dirty) build();
+        return stageSizes[stage];
+    }
+
+    public WorldSystem getSystem(int stage, int index) {
+        if (dirty) build();
+        return stages[stage][index];
+    }
+
+    private void build() {
+        int n = systems.size;
+        int[] stageOf = new int[n];
+        int count = 0;
+        for (int i = 0; i < n; i++) {
+            int stage = 0;
+            for (int j = 0; j < i; j++) {
+                if (systems.get(i).conflicts(systems.get(j))) stage = Math.max(stage, stageOf[j] + 1);
+            }
+            stageOf[i] = stage;
+            count = Math.max(count, stage + 1);
+        }
+
+        stageSizes = new int[count];
+        for (int i = 0; i < n; i++) stageSizes[stageOf[i]]++;
+        stages = new WorldSystem[count][];
+        for (int s = 0; s < count; s++) stages[s] = new WorldSystem[stageSizes[s]];
+        int[] filled = new int[count];
+        for (int i = 0; i < n; i++) {
+            int s = stageOf[i];
+            stages[s][filled[s]++] = systems.get(i);
+        }
+        dirty = false;
+    }
+}
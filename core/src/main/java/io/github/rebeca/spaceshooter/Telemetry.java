@@ -0,0 +1,26 @@
+package io.github.rebeca.spaceshooter;
+
+import com.badlogic.gdx.Screen;
+
+/**
+ * Puntos de instrumentacion del juego: frames, fases del tick, apariciones,
+ * colisiones, cambios de pantalla y cargas de recursos. Todos los metodos son
+ * opcionales y por defecto no hacen nada. El lanzador de escritorio instala una
+ * version que emite eventos JFR; Android, iOS y GWT usan {@link #NONE}.
+ */
+public interface Telemetry extends GameWorld.PhaseListener {
+    Telemetry NONE = new Telemetry() {};
+
+    default void frameBegin() {}
+    default void frameEnd(Screen screen) {}
+
+    @Override default void beginPhase(GameWorld.Phase phase) {}
+    @Override default void endPhase(GameWorld.Phase phase) {}
+
+    default void entitySpawned(GameWorld.EntityKind kind) {}
+    default void collision(GameWorld.EntityKind a, GameWorld.EntityKind b) {}
+    default void screenChanged(Screen from, Screen to) {}
+
+    // Tiempo desde que se pidio el recurso hasta que quedo cargado
+    default void assetLoaded(String path, long nanos) {}
+}
@@ -22,8 +22,7 @@ public class TitleScreen implements Screen {
     private final Game game;
     private final Stage stage;
     private Texture backgroundTex;
-    private BitmapFont titleFont;
-    private BitmapFont buttonFont;
+    private BitmapFont font;
 
     public TitleScreen(Game game) {
         this.game = game;
@@ -45,17 +44,9 @@ public class TitleScreen implements Screen {
             main.background.play();
         }
 
-        // Load fonts
-        titleFont = new BitmapFont(Gdx.files.internal("fonts/audiowide.fnt"));
-        titleFont.getData().setScale(1.1f); // Large size for title
-        titleFont.setColor(Color.GOLD);
-
-        buttonFont = new BitmapFont(Gdx.files.internal("fonts/audiowide.fnt"));
-        buttonFont.getData().setScale(0.9f); // Medium size for buttons
-        buttonFont.setColor(Color.WHITE);
-
-        // Load background texture
-        backgroundTex = new Texture(Gdx.files.internal("ui/MainMenu/background.png"));
+        // Borrow the shared font and background texture
+        font = main.assets.borrowFont();
+        backgroundTex = main.assets.borrowTexture(Assets.BACKGROUND);
 
         // Background image
         Image background = new Image(backgroundTex);
@@ -63,7 +54,9 @@ public class TitleScreen implements Screen {
         background.setPosition(0, 0);
 
         // Game title label
-        Label titleLabel = new Label("SPACE SHOOTER", new Label.LabelStyle(titleFont, Color.WHITE));
+        Label titleLabel = new Label("SPACE SHOOTER", new Label.LabelStyle(font, Color.WHITE));
+        titleLabel.setFontScale(1.1f); // Large size for title
+        titleLabel.pack();
         titleLabel.setAlignment(Align.center);
         titleLabel.setPosition(
             Gdx.graphics.getWidth() / 2f - titleLabel.getWidth() / 2f,
@@ -71,7 +64,9 @@ public class TitleScreen implements Screen {
         );
 
         // Start button label
-        Label startLabel = new Label("START", new Label.LabelStyle(buttonFont, Color.WHITE));
+        Label startLabel = new Label("START", new Label.LabelStyle(font, Color.WHITE));
+        startLabel.setFontScale(0.9f); // Medium size for buttons
+        startLabel.pack();
         startLabel.setAlignment(Align.center);
         startLabel.setPosition(
             Gdx.graphics.getWidth() / 2f - startLabel.getWidth() / 2f,
@@ -80,7 +75,8 @@ public class TitleScreen implements Screen {
         startLabel.addListener(new ClickListener() {
             @Override
             public void clicked(InputEvent event, float x, float y) {
-                game.setScreen(new GameScreen(game, 0));
+                // La primera partida crea la pantalla de juego; la transicion lo hace con algo en pantalla
+                game.setScreen(new LevelTransitionScreen(game, 0));
             }
 
             @Override
@@ -95,7 +91,9 @@ public class TitleScreen implements Screen {
         });
 
         // Exit button label
-        Label exitLabel = new Label("EXIT", new Label.LabelStyle(buttonFont, Color.WHITE));
+        Label exitLabel = new Label("EXIT", new Label.LabelStyle(font, Color.WHITE));
+        exitLabel.setFontScale(0.9f);
+        exitLabel.pack();
         exitLabel.setAlignment(Align.center);
         exitLabel.setPosition(
             Gdx.graphics.getWidth() / 2f - exitLabel.getWidth() / 2f,
@@ -153,8 +151,8 @@ public class TitleScreen implements Screen {
     @Override
     public void dispose() {
         stage.dispose();
-        backgroundTex.dispose();
-        titleFont.dispose();
-        buttonFont.dispose();
+        Assets assets = ((Main) game).assets;
+        assets.release(Assets.BACKGROUND);
+        assets.release(Assets.FONT);
     }
 }
@@ -0,0 +1,119 @@
+package io.github.rebeca.spaceshooter;
+
+/**
+ * Rejilla uniforme para la fase amplia de colisiones.
+ * Se reconstruye en cada tick a partir de un {@link EntityStore} con un
+ * ordenamiento por conteo (dos pasadas), sin crear objetos. Cada entidad ocupa
+ * las celdas de todo el tramo que recorrio en el ultimo movimiento. Las entidades
+ * fuera del area de juego se asignan a la celda del borde mas cercana, asi que
+ * dos rectangulos que se solapan siempre comparten al menos una celda.
+ */
+public final class UniformGrid {
+    private final float cellSize;
+    private final int cols;
+    private final int rows;
+
+    private final int[] cellStart;            // Inicio de cada celda en cellItems (cols * rows + 1)
+    private final int[] cellCursor;           // Posicion de escritura durante la construccion
+    private int[] cellItems = new int[64];    // Indices de entidades agrupados por celda
+
+    private int[] stamp = new int[64];        // Ultima consulta que visito cada entidad
+    private int queryId = 0;
+    private int[] candidates = new int[64];   // Resultado de la ultima consulta
+
+    public UniformGrid(float worldWidth, float worldHeight, float cellSize) {
+        this.cellSize = cellSize;
+        this.cols = Math.max(1, (int) Math.ceil(worldWidth / cellSize));
+        this.rows = Math.max(1, (int) Math.ceil(worldHeight / cellSize));
+        cellStart = new int[cols * rows + 1];
+        cellCursor = new int[cols * rows];
+    }
+
+    // Reconstruye la rejilla con todas las entidades del almacen
+    public void build(EntityStore store) {
+        int cellCount = cols * rows;
+        for (int c = 0; c <= cellCount; c++) cellStart[c] = 0;
+
+        // Primera pasada: contar entidades por celda
+        int total = 0;
+        for (int i = 0; i < store.size; i++) {
+            int c0 = col(store.x[i]), c1 = col(store.x[i] + store.width[i]);
+            float bottom = store.sweptBottom(i);
+            int r0 = row(bottom), r1 = row(bottom + store.sweptHeight(i));
+            for (int r = r0; r <= r1; r++) {
+                for (int c = c0; c <= c1; c++) {
+                    cellStart[r * cols + c + 1]++;
+                    total++;
+                }
+            }
+        }
+
+        // Suma acumulada para obtener el inicio de cada celda
+        for (int c = 0; c < cellCount; c++) {
+            cellStart[c + 1] += cellStart[c];
+            cellCursor[c] = cellStart[c];
+        }
+        if (cellItems.length < total) cellItems = new int[Math.max(total, cellItems.length * 2)];
+
+        // Segunda pasada: escribir los indices en su celda
+        for (int i = 0; i < store.size; i++) {
+            int c0 = col(store.x[i]), c1 = col(store.x[i] + store.width[i]);
+            float bottom = store.sweptBottom(i);
+            int r0 = row(bottom), r1 = row(bottom + store.sweptHeight(i));
+            for (int r = r0; r <= r1; r++) {
+                for (int c = c0; c <= c1; c++) {
+                    cellItems[cellCursor[r * cols + c]++] = i;
+                }
+            }
+        }
+
+        if (stamp.length < store.size) {
+            int capacity = Math.max(store.size, stamp.length * 2);
+            stamp = new int[capacity];
+            candidates = new int[capacity];
+            queryId = 0;
+        }
+    }
+
+    /**
+     * Busca las entidades cuyas celdas tocan el rectangulo dado. Devuelve cuantas
+     * hay; los indices (sin repetir) quedan en {@link #candidates()}.
+     */
+    public int query(float x, float y, float width, float height) {
+        if (++queryId == 0) {
+            // Desbordamiento del contador: limpiar las marcas
+            for (int i = 0; i < stamp.length; i++) stamp[i] = 0;
+            queryId = 1;
+        }
+        int count = 0;
+        int c0 = col(x), c1 = col(x + width);
+        int r0 = row(y), r1 = row(y + height);
+        for (int r = r0; r <= r1; r++) {
+            for (int c = c0; c <= c1; c++) {
+                int cell = r * cols + c;
+                for (int k = cellStart[cell], end = cellStart[cell + 1]; k < end; k++) {
+                    int index = cellItems[k];
+                    if (stamp[index] != queryId) {
+                        stamp[index] = queryId;
+                        candidates[count++] = index;
+                    }
+                }
+            }
+        }
+        return count;
+    }
+
+    public int[] candidates() {
+        return candidates;
+    }
+
+    private int col(float x) {
+        int c = (int) (x / cellSize);
+        return c < 0 ? 0 : (c >= cols ? cols - 1 : c);
+    }
+
+    private int row(float y) {
+        int r = (int) (y / cellSize);
+        return r < 0 ? 0 : (r >= rows ? rows - 1 : r);
+    }
+}
@@ -7,7 +7,6 @@ import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import com.badlogic.gdx.scenes.scene2d.Stage;
@@ -20,7 +19,6 @@ import com.badlogic.gdx.utils.viewport.ScreenViewport;
 public class VictoryScreen implements Screen {
     private final Game game;
     private Stage stage;
-    private SpriteBatch batch;
 
     // Textura de fondo
     private Texture background;
@@ -31,9 +29,7 @@ public class VictoryScreen implements Screen {
     private final int enemiesDefeated;
 
     // Fuentes para los textos
-    private BitmapFont victoryFont;
-    private BitmapFont statsFont;
-    private BitmapFont buttonFont;
+    private BitmapFont font;
 
     // Numero de nivel alcanzado
     private final int levelNumber;
@@ -49,9 +45,8 @@ public class VictoryScreen implements Screen {
 
     @Override
     public void show() {
-        // Inicializa el escenario y el batch para dibujar
+        // Inicializa el escenario para dibujar
         stage = new Stage(new ScreenViewport());
-        batch = new SpriteBatch();
         Gdx.input.setInputProcessor(stage); // Asigna el escenario como receptor de eventos
 
         // Manejo de musica de fondo
@@ -62,18 +57,9 @@ public class VictoryScreen implements Screen {
             main.background.play(); // Reproduce musica de fondo si no esta sonando
         }
 
-        // Carga la imagen de fondo
-        background = new Texture("ui/MainMenu/background.png");
-
-        // Configura las fuentes con distintos tamaños
-        victoryFont = new BitmapFont(Gdx.files.internal("fonts/audiowide.fnt"));
-        victoryFont.getData().setScale(1f); // Fuente grande para "VICTORY"
-
-        statsFont = new BitmapFont(Gdx.files.internal("fonts/audiowide.fnt"));
-        statsFont.getData().setScale(0.5f); // Fuente mediana para estadisticas
-
-        buttonFont = new BitmapFont(Gdx.files.internal("fonts/audiowide.fnt"));
-        buttonFont.getData().setScale(0.6f); // Fuente para boton
+        // Pide la imagen de fondo y la fuente compartidas; cada etiqueta ajusta su tamaño
+        background = main.assets.borrowTexture(Assets.BACKGROUND);
+        font = main.assets.borrowFont();
 
         // Agrega la imagen de fondo al escenario
         Image bgImage = new Image(background);
@@ -82,10 +68,10 @@ public class VictoryScreen implements Screen {
 
         // Posiciones iniciales para colocar los textos
         float yPos = Gdx.graphics.getHeight() * 0.55f;
-        float yStep = 50f;
+        float yStep = 42f;
 
         // Texto de titulo "VICTORY"
-        Label victoryLabel = new Label("VICTORY", new Label.LabelStyle(victoryFont, Color.GOLD));
+        Label victoryLabel = new Label("VICTORY", new Label.LabelStyle(font, Color.GOLD));
         victoryLabel.setAlignment(Align.center);
         victoryLabel.setPosition(
             Gdx.graphics.getWidth()/2f - victoryLabel.getWidth()/2,
@@ -96,21 +82,26 @@ public class VictoryScreen implements Screen {
 
         yPos+=30;
         // Nivel alcanzado
-        addStatLabel("Level Reached: " + levelNumber, statsFont, Color.WHITE, yPos);
+        addStatLabel("Level Reached: " + levelNumber, Color.WHITE, yPos);
         yPos -= yStep;
 
         // Estadisticas del juego
-        addStatLabel("Time Survived: " + (int)timeElapsed + " seconds", statsFont, Color.WHITE, yPos);
+        addStatLabel("Time Survived: " + (int)timeElapsed + " seconds", Color.WHITE, yPos);
+        yPos -= yStep;
+
+        addStatLabel("Obstacles Passed: " + obstaclesPassed, Color.WHITE, yPos);
         yPos -= yStep;
 
-        addStatLabel("Obstacles Passed: " + obstaclesPassed, statsFont, Color.WHITE, yPos);
+        addStatLabel("Enemies Defeated: " + enemiesDefeated, Color.WHITE, yPos);
         yPos -= yStep;
 
-        addStatLabel("Enemies Defeated: " + enemiesDefeated, statsFont, Color.WHITE, yPos);
+        addStatLabel(GameOverScreen.scoreText(main.stats.getSummary()), Color.GOLD, yPos);
         yPos -= yStep * 0.8f;
 
         // Boton para volver a jugar desde el principio
-        Label playAgainLabel = new Label("PLAY AGAIN", new Label.LabelStyle(buttonFont, Color.WHITE));
+        Label playAgainLabel = new Label("PLAY AGAIN", new Label.LabelStyle(font, Color.WHITE));
+        playAgainLabel.setFontScale(0.6f); // Fuente para boton
+        playAgainLabel.pack();
         playAgainLabel.setAlignment(Align.center);
         playAgainLabel.setPosition(
             Gdx.graphics.getWidth()/2f - playAgainLabel.getWidth()/2,
@@ -122,7 +113,7 @@ public class VictoryScreen implements Screen {
             @Override
             public void clicked(InputEvent event, float x, float y) {
                 // Reinicia el juego desde el nivel 0
-                game.setScreen(new GameScreen(game, 0));
+                ((Main) game).showGame(0);
             }
 
             @Override
@@ -138,7 +129,9 @@ public class VictoryScreen implements Screen {
         stage.addActor(playAgainLabel);
 
         // Boton para volver al menu principal
-        Label menuLabel = new Label("MAIN MENU", new Label.LabelStyle(buttonFont, Color.WHITE));
+        Label menuLabel = new Label("MAIN MENU", new Label.LabelStyle(font, Color.WHITE));
+        menuLabel.setFontScale(0.6f);
+        menuLabel.pack();
         menuLabel.setAlignment(Align.center);
         menuLabel.setPosition(
             Gdx.graphics.getWidth()/2f - menuLabel.getWidth()/2,
@@ -169,9 +162,11 @@ public class VictoryScreen implements Screen {
     }
 
     // Metodo auxiliar para agregar etiquetas de texto de estadisticas
-    private void addStatLabel(String text, BitmapFont font, Color color, float y) {
+    private void addStatLabel(String text, Color color, float y) {
         Label.LabelStyle style = new Label.LabelStyle(font, color);
         Label label = new Label(text, style);
+        label.setFontScale(0.5f); // Fuente mediana para estadisticas
+        label.pack();
         label.setAlignment(Align.center);
         label.setPosition(
             Gdx.graphics.getWidth()/2f - label.getWidth()/2,
@@ -194,11 +189,9 @@ public class VictoryScreen implements Screen {
     public void dispose() {
         // Libera recursos
         stage.dispose();
-        batch.dispose();
-        background.dispose();
-        victoryFont.dispose();
-        statsFont.dispose();
-        buttonFont.dispose();
+        Assets assets = ((Main) game).assets;
+        assets.release(Assets.BACKGROUND);
+        assets.release(Assets.FONT);
     }
 
     @Override public void resize(int width, int height) { stage.getViewport().update(width, height, true); }
@@ -0,0 +1,41 @@
+package io.github.rebeca.spaceshooter;
+
+/**
+ * Un sistema del tick: una tarea que recorre uno o varios almacenes de entidades.
+ * Declara que datos lee y cuales escribe como mascaras de bits (en GameWorld,
+ * {@code 1 << Data.ordinal()}); {@link SystemScheduler} usa esas mascaras para
+ * saber que sistemas pueden correr a la vez sin cambiar el resultado.
+ * <p>
+ * Un sistema que avisa al {@link GameWorld.Listener} debe declarar que escribe los
+ * eventos, para que los avisos salgan siempre en el mismo orden.
+ */
+public final class WorldSystem {
+    /** El trabajo del sistema en un tick. */
+    public interface Task {
+        void run(float delta);
+    }
+
+    public final GameWorld.Phase phase;      // Fase con la que se mide
+    public final int reads;
+    public final int writes;
+    private final Task task;
+
+    public WorldSystem(GameWorld.Phase phase, int reads, int writes, Task task) {
+        this.phase = phase;
+        this.reads = reads;
+        this.writes = writes;
+        this.task = task;
+    }
+
+    // Dos sistemas chocan si uno escribe algo que el otro lee o escribe
+    public boolean conflicts(WorldSystem other) {
+        return (writes & (other.reads | other.writes)) != 0 || (other.writes & reads) != 0;
+    }
+
+    // Ejecuta el sistema avisando al medidor de fases, si lo hay
+    public void run(float delta, GameWorld.PhaseListener phases) {
+        if (phases != null) phases.beginPhase(phase);
+        task.run(delta);
+        if (phases != null) phases.endPhase(phase);
+    }
+}
@@ -0,0 +1,76 @@
+package io.github.rebeca.spaceshooter.lwjgl3;
+
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import io.github.rebeca.spaceshooter.InputRecorder;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/** Writes input recordings to a file through a FileChannel with a direct buffer in front of it. */
+public class FileChannelSink implements InputRecorder.Sink {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+    public FileChannelSink(Path path) {
+        try {
+            channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Could not open recording " + path, e);
+        }
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) {
+        while (length > 0) {
+            int count = Math.min(length, buffer.remaining());
+            buffer.put(bytes, offset, count);
+            offset += count;
+            length -= count;
+            if (!buffer.hasRemaining()) drain();
+        }
+    }
+
+    // Hands the buffered bytes to the OS, so they survive if the game crashes afterwards
+    @Override
+    public void flush() {
+        drain();
+    }
+
+    @Override
+    public void close() {
+        try {
+            drain();
+            channel.close();
+        } catch (GdxRuntimeException | IOException e) {
+            throw new GdxRuntimeException("Could not close recording", e);
+        }
+    }
+
+    private void drain() {
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) channel.write(buffer);
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Could not write recording", e);
+        }
+        buffer.clear();
+    }
+
+    // Reads a whole recording into memory so replays never touch the disk
+    public static byte[] read(Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer data = ByteBuffer.allocate((int) Files.size(path));
+            while (data.hasRemaining() && channel.read(data) >= 0) {}
+            return data.array();
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Could not read recording " + path, e);
+        }
+    }
+}
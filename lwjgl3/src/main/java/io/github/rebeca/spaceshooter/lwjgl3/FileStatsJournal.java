@@ -0,0 +1,244 @@
+package io.github.rebeca.spaceshooter.lwjgl3;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import io.github.rebeca.spaceshooter.RunStats;
+import io.github.rebeca.spaceshooter.StatsJournal;
+import io.github.rebeca.spaceshooter.StatsSummary;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps every finished run in an append-only binary journal, plus a small memory-mapped
+ * index next to it with the lifetime totals and the top runs. Startup only reads the index,
+ * so it costs the same after ten runs or ten million. {@link #record} updates the in-memory
+ * summary and queues the run without blocking; a daemon writer thread appends queued runs
+ * in batches, forces them to disk and then refreshes the index.
+ * <pre>
+ * runs.journal  "SSRJ" (int), version (int), then one 32-byte record per run:
+ *               timestamp (long), level (int), victory (int), time (float),
+ *               obstacles (int), enemies (int), score (int)
+ * runs.index    "SSRX" (int), version (int), journal bytes covered (long, -1 while updating),
+ *               runs, victories (long), time played (double), obstacles, enemies (long),
+ *               best levels cleared (int), top count (int), then the top runs as records
+ * </pre>
+ * If the index is missing, was torn by a crash, or is behind the journal, the records it
+ * does not cover are read back from the journal once and the index is rewritten.
+ */
+public class FileStatsJournal implements StatsJournal {
+    private static final int JOURNAL_MAGIC = 0x5353524A;    // "SSRJ"
+    private static final int INDEX_MAGIC = 0x53535258;      // "SSRX"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 8;
+    private static final int RECORD_SIZE = 32;
+    private static final int COVERED = 8;                    // Index offsets
+    private static final int TOTALS = 16;
+    private static final int TOP = TOTALS + 5 * 8 + 2 * 4;
+    private static final int INDEX_SIZE = TOP + StatsSummary.TOP_SIZE * RECORD_SIZE;
+    private static final int QUEUE_CAPACITY = 1024;
+    private static final long SHUTDOWN_TIMEOUT = 5000;      // Milliseconds
+    private static final RunStats STOP = new RunStats(0, 0, false, 0, 0, 0);
+
+    private final StatsSummary summary = new StatsSummary();     // Render thread only
+    private final StatsSummary persisted = new StatsSummary();   // Writer thread only, after startup
+    private final BlockingQueue<RunStats> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private final FileChannel journal;
+    private final FileChannel indexChannel;
+    private final MappedByteBuffer index;
+    private final Thread writer;
+    private long journalSize;
+    private volatile int dropped;             // Runs that did not fit in the queue
+    private boolean closed;
+
+    public FileStatsJournal(Path directory) {
+        try {
+            Files.createDirectories(directory);
+            journal = FileChannel.open(directory.resolve("runs.journal"), StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+            indexChannel = FileChannel.open(directory.resolve("runs.index"), StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+            index = indexChannel.map(FileChannel.MapMode.READ_WRITE, 0, INDEX_SIZE);
+            openJournal();
+            loadIndex();
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Could not open stats journal in " + directory, e);
+        }
+        summary.set(persisted);
+        writer = new Thread(this::writeLoop, "StatsJournal");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @Override
+    public void record(RunStats run) {
+        if (closed) return;
+        summary.add(run);
+        if (!queue.offer(run)) dropped++;     // Only this session's summary will have it
+    }
+
+    @Override
+    public StatsSummary getSummary() {
+        return summary;
+    }
+
+    public int getDropped() {
+        return dropped;
+    }
+
+    // Writes everything still queued, then stops the writer and closes the files
+    @Override
+    public void close() {
+        if (closed) return;
+        closed = true;
+        try {
+            // The writer may have stopped on an I/O error, so never wait on it for long
+            if (queue.offer(STOP, SHUTDOWN_TIMEOUT, TimeUnit.MILLISECONDS)) writer.join(SHUTDOWN_TIMEOUT);
+            index.force();
+            journal.close();
+            indexChannel.close();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Could not close stats journal", e);
+        }
+    }
+
+    // Writes the header of a new journal and drops a record cut short by a crash
+    private void openJournal() throws IOException {
+        long size = journal.size();
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        if (size < HEADER_SIZE) {
+            header.putInt(JOURNAL_MAGIC).putInt(VERSION).flip();
+            journal.truncate(0);
+            write(header, 0);
+            size = HEADER_SIZE;
+        } else {
+            while (header.hasRemaining() && journal.read(header, header.position()) >= 0) {}
+            if (header.getInt(0) != JOURNAL_MAGIC || header.getInt(4) != VERSION) {
+                throw new IOException("Not a stats journal (or an unsupported version)");
+            }
+        }
+        journalSize = size - (size - HEADER_SIZE) % RECORD_SIZE;
+        if (journalSize != size) journal.truncate(journalSize);
+    }
+
+    // Reads the totals and top runs from the index and catches up with the journal if needed
+    private void loadIndex() throws IOException {
+        long covered = HEADER_SIZE;
+        long indexed = index.getLong(COVERED);
+        if (index.getInt(0) == INDEX_MAGIC && index.getInt(4) == VERSION && indexed >= HEADER_SIZE
+            && indexed <= journalSize && (indexed - HEADER_SIZE) % RECORD_SIZE == 0) {
+            covered = indexed;
+            persisted.setTotals(index.getLong(TOTALS), index.getLong(TOTALS + 8), index.getDouble(TOTALS + 16),
+                index.getLong(TOTALS + 24), index.getLong(TOTALS + 32), index.getInt(TOTALS + 40));
+            int count = Math.min(index.getInt(TOTALS + 44), StatsSummary.TOP_SIZE);
+            for (int i = 0; i < count; i++) persisted.offerTop(readRecord(index, TOP + i * RECORD_SIZE));
+        }
+        if (covered < journalSize) {
+            replay(covered);
+            writeIndex();
+        }
+    }
+
+    // Adds the journal records from the given offset on; only after a crash or a lost index
+    private void replay(long from) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(RECORD_SIZE * 2048);
+        long position = from;
+        while (position < journalSize) {
+            buffer.clear();
+            buffer.limit((int) Math.min(buffer.capacity(), journalSize - position));
+            while (buffer.hasRemaining() && journal.read(buffer, position + buffer.position()) >= 0) {}
+            buffer.flip();
+            for (int offset = 0; offset + RECORD_SIZE <= buffer.limit(); offset += RECORD_SIZE) {
+                persisted.add(readRecord(buffer, offset));
+            }
+            position += buffer.limit();
+        }
+    }
+
+    private void writeLoop() {
+        ArrayList<RunStats> batch = new ArrayList<>();
+        ByteBuffer buffer = ByteBuffer.allocate(RECORD_SIZE * QUEUE_CAPACITY);
+        boolean stop = false;
+        while (!stop) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                break;
+            }
+            queue.drainTo(batch);
+            buffer.clear();
+            for (RunStats run : batch) {
+                if (run == STOP) {
+                    stop = true;
+                } else {
+                    writeRecord(buffer, buffer.position(), run);
+                    buffer.position(buffer.position() + RECORD_SIZE);
+                    persisted.add(run);
+                }
+            }
+            batch.clear();
+            buffer.flip();
+            if (!buffer.hasRemaining()) continue;
+            try {
+                long size = journalSize + buffer.remaining();
+                write(buffer, journalSize);
+                journalSize = size;
+                writeIndex();
+            } catch (IOException e) {
+                if (Gdx.app != null) Gdx.app.error("StatsJournal", "Could not save runs", e);
+                return;
+            }
+        }
+    }
+
+    // Journal first: the records are forced to disk before the index covers them, so a crash
+    // (of the process or the machine) never leaves an index counting runs the journal lost
+    private void writeIndex() throws IOException {
+        journal.force(true);
+        index.putLong(COVERED, -1);           // Marks the index as torn until the last put
+        index.putInt(0, INDEX_MAGIC);
+        index.putInt(4, VERSION);
+        index.putLong(TOTALS, persisted.getRuns());
+        index.putLong(TOTALS + 8, persisted.getVictories());
+        index.putDouble(TOTALS + 16, persisted.getTimePlayed());
+        index.putLong(TOTALS + 24, persisted.getObstaclesPassed());
+        index.putLong(TOTALS + 32, persisted.getEnemiesDefeated());
+        index.putInt(TOTALS + 40, persisted.getBestLevelsCleared());
+        index.putInt(TOTALS + 44, persisted.getTopCount());
+        for (int i = 0; i < persisted.getTopCount(); i++) {
+            writeRecord(index, TOP + i * RECORD_SIZE, persisted.getTopEntry(i));
+        }
+        index.putLong(COVERED, journalSize);
+    }
+
+    private void write(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) position += journal.write(buffer, position);
+    }
+
+    private static void writeRecord(ByteBuffer buffer, int offset, RunStats run) {
+        buffer.putLong(offset, run.timestamp);
+        buffer.putInt(offset + 8, run.levelIndex);
+        buffer.putInt(offset + 12, run.victory ? 1 : 0);
+        buffer.putFloat(offset + 16, run.timeElapsed);
+        buffer.putInt(offset + 20, run.obstaclesPassed);
+        buffer.putInt(offset + 24, run.enemiesDefeated);
+        buffer.putInt(offset + 28, run.score);
+    }
+
+    // The score is recomputed from the other fields, so the stored one is only for external tools
+    private static RunStats readRecord(ByteBuffer buffer, int offset) {
+        return new RunStats(buffer.getLong(offset), buffer.getInt(offset + 8), buffer.getInt(offset + 12) != 0,
+            buffer.getFloat(offset + 16), buffer.getInt(offset + 20), buffer.getInt(offset + 24));
+    }
+}
@@ -0,0 +1,61 @@
+package io.github.rebeca.spaceshooter.lwjgl3;
+
+import io.github.rebeca.spaceshooter.GameWorld;
+import io.github.rebeca.spaceshooter.SystemRunner;
+import io.github.rebeca.spaceshooter.WorldSystem;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Runs the systems of a stage on a ForkJoin worker pool. The calling thread runs the
+ * first system itself and then joins the rest, so a stage of two systems costs one
+ * hand-off. Tasks are reused between ticks, so a tick does not allocate. Pool threads
+ * are daemons and never keep the JVM alive.
+ * <p>
+ * Systems in a stage never touch the same data (see {@code SystemScheduler}), so the
+ * simulation stays deterministic and replays still match.
+ */
+public class ForkJoinSystemRunner implements SystemRunner {
+    private final ForkJoinPool pool;
+    private SystemTask[] tasks = new SystemTask[0];
+
+    public ForkJoinSystemRunner(int parallelism) {
+        pool = new ForkJoinPool(parallelism);
+    }
+
+    @Override
+    public void run(WorldSystem[] stage, int count, float delta, GameWorld.PhaseListener phases) {
+        if (tasks.length < count) {
+            SystemTask[] grown = new SystemTask[count];
+            System.arraycopy(tasks, 0, grown, 0, tasks.length);
+            for (int i = tasks.length; i < count; i++) grown[i] = new SystemTask();
+            tasks = grown;
+        }
+        for (int i = 1; i < count; i++) {
+            SystemTask task = tasks[i];
+            task.reinitialize();
+            task.system = stage[i];
+            task.delta = delta;
+            task.phases = phases;
+            pool.execute(task);
+        }
+        stage[0].run(delta, phases);
+        for (int i = 1; i < count; i++) {
+            tasks[i].join();                    // Rethrows anything the system threw
+            tasks[i].system = null;
+            tasks[i].phases = null;
+        }
+    }
+
+    private static final class SystemTask extends RecursiveAction {
+        WorldSystem system;
+        float delta;
+        GameWorld.PhaseListener phases;
+
+        @Override
+        protected void compute() {
+            system.run(delta, phases);
+        }
+    }
+}
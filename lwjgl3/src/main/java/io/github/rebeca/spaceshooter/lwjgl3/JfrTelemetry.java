@@ -0,0 +1,161 @@
+package io.github.rebeca.spaceshooter.lwjgl3;
+
+import com.badlogic.gdx.Screen;
+import io.github.rebeca.spaceshooter.GameWorld;
+import io.github.rebeca.spaceshooter.Telemetry;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Telemetry backed by Java Flight Recorder events, so JMC timelines and flame graphs
+ * can be lined up with frames, tick phases and gameplay moments. Events only cost a
+ * flag check while no recording is running. Frame and phase events are reused
+ * (begin/end/commit on the render thread); instant events are created on demand.
+ * <p>
+ * Record with: {@code java -XX:StartFlightRecording=filename=game.jfr ...}
+ */
+public class JfrTelemetry implements Telemetry {
+    private static final GameWorld.Phase[] PHASES = GameWorld.Phase.values();
+
+    private final FrameEvent frame = new FrameEvent();
+    private final PhaseEvent[] phases = new PhaseEvent[PHASES.length];
+
+    public JfrTelemetry() {
+        for (int i = 0; i < phases.length; i++) {
+            phases[i] = new PhaseEvent();
+            phases[i].phase = PHASES[i].name();
+        }
+    }
+
+    @Override
+    public void frameBegin() {
+        frame.begin();
+    }
+
+    @Override
+    public void frameEnd(Screen screen) {
+        frame.end();
+        if (frame.shouldCommit()) {
+            frame.screen = screen != null ? screen.getClass().getSimpleName() : null;
+            frame.commit();
+        }
+    }
+
+    @Override
+    public void beginPhase(GameWorld.Phase phase) {
+        phases[phase.ordinal()].begin();
+    }
+
+    @Override
+    public void endPhase(GameWorld.Phase phase) {
+        PhaseEvent event = phases[phase.ordinal()];
+        event.end();
+        event.commit();
+    }
+
+    @Override
+    public void entitySpawned(GameWorld.EntityKind kind) {
+        SpawnEvent event = new SpawnEvent();
+        if (event.isEnabled()) {
+            event.kind = kind.name();
+            event.commit();
+        }
+    }
+
+    @Override
+    public void collision(GameWorld.EntityKind a, GameWorld.EntityKind b) {
+        CollisionEvent event = new CollisionEvent();
+        if (event.isEnabled()) {
+            event.first = a.name();
+            event.second = b.name();
+            event.commit();
+        }
+    }
+
+    @Override
+    public void screenChanged(Screen from, Screen to) {
+        ScreenEvent event = new ScreenEvent();
+        if (event.isEnabled()) {
+            event.from = from != null ? from.getClass().getSimpleName() : null;
+            event.to = to != null ? to.getClass().getSimpleName() : null;
+            event.commit();
+        }
+    }
+
+    @Override
+    public void assetLoaded(String path, long nanos) {
+        AssetLoadEvent event = new AssetLoadEvent();
+        if (event.isEnabled()) {
+            event.path = path;
+            event.loadTime = nanos;
+            event.commit();
+        }
+    }
+
+    @Name("spaceshooter.Frame")
+    @Label("Frame")
+    @Category({"SpaceShooter", "Rendering"})
+    @StackTrace(false)
+    static class FrameEvent extends Event {
+        @Label("Screen")
+        String screen;
+    }
+
+    @Name("spaceshooter.Phase")
+    @Label("Tick Phase")
+    @Description("One phase of GameWorld.step")
+    @Category({"SpaceShooter", "Simulation"})
+    @StackTrace(false)
+    static class PhaseEvent extends Event {
+        @Label("Phase")
+        String phase;
+    }
+
+    @Name("spaceshooter.Spawn")
+    @Label("Entity Spawn")
+    @Category({"SpaceShooter", "Gameplay"})
+    @StackTrace(false)
+    static class SpawnEvent extends Event {
+        @Label("Kind")
+        String kind;
+    }
+
+    @Name("spaceshooter.Collision")
+    @Label("Collision Hit")
+    @Category({"SpaceShooter", "Gameplay"})
+    @StackTrace(false)
+    static class CollisionEvent extends Event {
+        @Label("First")
+        String first;
+        @Label("Second")
+        String second;
+    }
+
+    @Name("spaceshooter.ScreenTransition")
+    @Label("Screen Transition")
+    @Category({"SpaceShooter", "Screens"})
+    @StackTrace(false)
+    static class ScreenEvent extends Event {
+        @Label("From")
+        String from;
+        @Label("To")
+        String to;
+    }
+
+    @Name("spaceshooter.AssetLoad")
+    @Label("Asset Load")
+    @Category({"SpaceShooter", "Assets"})
+    @StackTrace(false)
+    static class AssetLoadEvent extends Event {
+        @Label("Path")
+        String path;
+        @Label("Load Time")
+        @Timespan(Timespan.NANOSECONDS)
+        long loadTime;
+    }
+}
@@ -2,17 +2,100 @@ package io.github.rebeca.spaceshooter.lwjgl3;
 
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3Application;
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3ApplicationConfiguration;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxNativesLoader;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import io.github.rebeca.spaceshooter.Assets;
+import io.github.rebeca.spaceshooter.CollisionMasks;
+import io.github.rebeca.spaceshooter.GameScreen;
+import io.github.rebeca.spaceshooter.InputRecorder;
+import io.github.rebeca.spaceshooter.InputReplay;
 import io.github.rebeca.spaceshooter.Main;
+import io.github.rebeca.spaceshooter.ReplayRunner;
 
-/** Launches the desktop (LWJGL3) application. */
+import java.nio.file.Path;
+
+/**
+ * Launches the desktop (LWJGL3) application.
+ * <p>
+ * Options: {@code --record <file>} saves every game's input, {@code --replay <file>} plays a
+ * recording back as fast as it can be drawn, and adding {@code --no-render} replays only the
+ * simulation without opening a window and exits with code 1 if any final state diverges.
+ * {@code --parallel-systems} runs non-conflicting world systems of a tick on a worker pool.
+ * {@code --bullet-stress} ramps up enemy bullets until frames no longer fit in 60 fps, logs the
+ * highest count that did, and exits. Finished runs are saved under {@code ~/.spaceshooter}, or
+ * in the directory given with {@code --stats <dir>}.
+ */
 public class Lwjgl3Launcher {
     public static void main(String[] args) {
+        String replayPath = option(args, "--replay");
+        if (replayPath != null && hasFlag(args, "--no-render")) {
+            replayWithoutRendering(Path.of(replayPath));
+            return;
+        }
         if (StartupHelper.startNewJvmIfRequired()) return; // This handles macOS support and helps on Windows.
-        createApplication();
+        String statsPath = option(args, "--stats");
+        createApplication(option(args, "--record"), replayPath, hasFlag(args, "--parallel-systems"),
+            hasFlag(args, "--bullet-stress"),
+            statsPath != null ? Path.of(statsPath) : Path.of(System.getProperty("user.home"), ".spaceshooter"));
+    }
+
+    private static Lwjgl3Application createApplication(String recordPath, String replayPath, boolean parallelSystems,
+                                                       boolean bulletStress, Path statsDirectory) {
+        Main main = new Main();
+        main.telemetry = new JfrTelemetry(); // Custom JFR events; they cost almost nothing unless a recording is running.
+        try {
+            main.stats = new FileStatsJournal(statsDirectory);
+        } catch (GdxRuntimeException e) {
+            // Not worth refusing to start over; the runs of this session stay in memory.
+            System.err.println(e.getMessage() + ": " + e.getCause());
+        }
+        if (parallelSystems) {
+            // Opt-in: with today's entity counts a hand-off costs more than a stage's work.
+            main.systemRunner = new ForkJoinSystemRunner(Runtime.getRuntime().availableProcessors());
+        }
+        Lwjgl3ApplicationConfiguration configuration = getDefaultConfiguration();
+        if (bulletStress) {
+            main.bulletStress = true;
+            // Frame time is the measurement, so it must not be capped by vsync.
+            configuration.useVsync(false);
+            configuration.setForegroundFPS(0);
+        } else if (replayPath != null) {
+            main.replay = new InputReplay(FileChannelSink.read(Path.of(replayPath)));
+            // Replays advance one tick per frame, so let frames run unthrottled.
+            configuration.useVsync(false);
+            configuration.setForegroundFPS(0);
+        } else if (recordPath != null) {
+            main.recorder = new InputRecorder(new FileChannelSink(Path.of(recordPath)), GameScreen.STEP);
+        }
+        return new Lwjgl3Application(main, configuration);
+    }
+
+    private static void replayWithoutRendering(Path path) {
+        InputReplay replay = new InputReplay(FileChannelSink.read(path));
+        // Collisions use the sprite masks, so decode them here too (no window, only the Pixmap natives).
+        GdxNativesLoader.load();
+        CollisionMasks masks = new CollisionMasks(new FileHandle(Assets.GAMEPLAY_ATLAS));
+        ReplayRunner runner = new ReplayRunner();
+        runner.setMasks(masks);
+        ReplayRunner.Result result = runner.run(replay);
+        masks.dispose();
+        System.out.println(path.getFileName() + ": " + result);
+        System.exit(result.mismatches == 0 ? 0 : 1);
+    }
+
+    private static String option(String[] args, String name) {
+        for (int i = 0; i < args.length - 1; i++) {
+            if (args[i].equals(name)) return args[i + 1];
+        }
+        return null;
     }
 
-    private static Lwjgl3Application createApplication() {
-        return new Lwjgl3Application(new Main(), getDefaultConfiguration());
+    private static boolean hasFlag(String[] args, String name) {
+        for (String arg : args) {
+            if (arg.equals(name)) return true;
+        }
+        return false;
     }
 
     private static Lwjgl3ApplicationConfiguration getDefaultConfiguration() {